@@ -0,0 +1,66 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+/**
+ * This class represents the move an AI player has decided to make on its turn.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class AIMove {
+
+	public static final int STAY = 0; // Nowhere to go
+	public static final int ROLL_FOR_TOKEN = 1;
+	public static final int WALK = 2;
+	public static final int SAIL = 3; // Board a ship, then move
+	public static final int FLY = 4;
+	public static final int SAIL_UNPAID = 5; // Board a ship without paying, then move the steps of an unpaid voyage
+
+	private final int type;
+	private final int port;
+	private final int destination;
+
+	/**
+	 * Constructs a move.
+	 * 
+	 * @param type			<code>STAY</code>, <code>ROLL_FOR_TOKEN</code>, <code>WALK</code>,
+	 * 						<code>SAIL</code>, <code>SAIL_UNPAID</code> or <code>FLY</code>
+	 * @param port			the id of the port the ship is bound for when sailing, otherwise -1
+	 * @param destination	the id of the place to move to, or -1 if the player doesn't move
+	 */
+	public AIMove(int type, int port, int destination) {
+		this.type = type;
+		this.port = port;
+		this.destination = destination;
+	}
+
+	public int getType() {
+		return type;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	public int getDestination() {
+		return destination;
+	}
+}
@@ -19,38 +19,76 @@
 package star_of_Africa;
 
 import java.awt.event.ActionEvent;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.swing.SwingUtilities;
 
 /**
- * This class is reponsible for all AI logic. It decides where the players should move,
- * and which route they should take. Upon starting it goes into waiting, and needs to be
- * notified to make a move. The reason the AI was implemented as a separate thread was
+ * This class plays the turns of all AI players in the GUI. The decisions are left to an
+ * AIStrategy, while this class shows them to the human players at a pace they can follow.
+ * Upon starting it goes into waiting, and needs to be notified to make a move. The reason the AI was implemented as a separate thread was
  * not to tie down the GUI while the AI players were making their moves.
+ * </p>
+ * The pace is set by the Speed of the PlayingField. The decisions are made in a thread of their own, so that
+ * they overlap with the showing of the moves: a player thinks while his diceroll is being shown, and as soon as
+ * the outcome of a turn is known, the next AI player rolls the dice and starts thinking while the turn is still
+ * being animated.
+ * </p>
+ * The decisions of a turn, the move and whether to buy a token, may not hold up the game for longer than the
+ * deadline together. A decision that isn't ready by then is replaced by that of the fallback strategy, which is
+ * quick, and the fallback also stands in for the strategy until the late decision is finished, since the strategy
+ * may only make one decision at a time. So does a decision made ahead for a turn that went otherwise.
+ * </p>
+ * Everything is shown on the event thread, and the moves are animated there without holding this thread up,
+ * so it waits for a move to have been shown before going on with the turn. The state of the game is only read
+ * and changed on the event thread too: this thread works on copies of it, and publishes the changes there.
  * 
  * @author Daniel Suni
  * @version 1.0.4
  */
 public class AIPlayer extends Thread {
 
-	private final long DELAY = 2000;
 	private Player[] player;
+	private RulesEngine engine;
+	private GameState state; // Only touched on the event thread
+	private GameState current; // Copied from the state on the event thread, for this thread to read
+	private BoardGraph board;
+	private AIStrategy strategy;
+	private AIStrategy fallback; // Decides when the strategy is late
+	private long deadline; // Milliseconds a decision may take, or 0 for no limit
+	private FutureTask<?> late; // A decision of the strategy that missed its deadline, or was never waited for
+	private int timeouts;
+	private GameRandom random; // The AI rolls its dice in a thread of its own, so it gets a generator of its own
 	private PlayingField pf;
-	private SoundPlayer soundPlayer;
 	private int turn;
-	private Place[] startingPoints;
-	private HashSet<Place> cities;
 	private boolean nothingToDo = true;
 	private boolean firstRun = true;
+	private FutureTask<AIMove> next; // The decision of the coming turn, made while the current one is being shown
+	private long nextHash; // The position the coming turn is expected to start from
+	private int nextDice; // The diceroll the decision was made for
 	
-	public AIPlayer(HashSet<Place> cities, Place[] startingPoints, Player[] player, SoundPlayer soundPlayer) {
-		this.cities = cities;
-		this.startingPoints = startingPoints;
+	public AIPlayer(AIStrategy strategy, AIStrategy fallback, long deadline, RulesEngine engine, GameState state,
+			Player[] player, GameRandom random) {
+		this.strategy = strategy;
+		this.fallback = fallback;
+		this.deadline = deadline;
+		this.random = random;
+		this.engine = engine;
+		this.state = state;
+		current = new GameState(state);
+		board = engine.getBoard();
 		this.player = player;
-		this.soundPlayer = soundPlayer;
 	}
 	
-	private void pause(long time) {
+	// Gives the human players time to see what happened. The time since the given moment counts as part of the pause.
+	private void pause(long since) {
+		long time = since + pf.getSpeed().getPause() - System.currentTimeMillis();
+		if (time <= 0) {
+			return;
+		}
 		try {
 			sleep(time);
 		}
@@ -59,511 +97,290 @@ public class AIPlayer extends Thread {
 		}
 	}
 	
-	/**
-	 * This is the method that gets kicked off by the run()-method whenever it is notified.
-	 */
-	private void makeAIMove() {
-		int rand = (int)(Math.random()*6) + 1;
-		int budget = pf.calculateBudget();
-		boolean moved = false;
-		// An enslaved player can't do anything
-		if (player[turn].getTurnsLeftAsSlave() > 0) {
-			player[turn].setTurnsLeftAsSlave(player[turn].getTurnsLeftAsSlave()-1);
-			return;
-		}
-
-		// Neither can a captured one who doesn't roll 1 or 2
-		if (player[turn].isCaptured() && rand > 2) {
-			pf.showDiceRoll(rand);
-			pause(DELAY);
-			return;
-		}
-		if (player[turn].isCaptured() && rand <= 2) {
-			player[turn].setCaptured(false);
-		}
-
-		// Or a stranded one...
-		if (pf.checkStranded(player[turn])) {
-			return;
+	private void pause() {
+		pause(System.currentTimeMillis());
+	}
+	
+	// Shows something on the playing field. The Swing components may only be touched on the event thread.
+	private void show(Runnable r) {
+		try {
+			SwingUtilities.invokeAndWait(r);
 		}
-
-		// Is the player shipbound?
-		if (player[turn].getLockedDestination() != null) {
-			ArrayList<Place> tempRoute = pf.getSeaRoute(player[turn].getPlace(),null);
-			tempRoute.trimToSize();
-			pf.showDiceRoll(rand);
-			pause(DELAY);
-			if (tempRoute.size() - 1 <= rand) {
-				pf.moveMade(player[turn].getLockedDestination());
-			}
-			else {
-				pf.moveMade(tempRoute.get(rand));
-			}
-			moved = true;
+		catch (Exception e) {
+			e.printStackTrace();
 		}
-
-		// Does the player have the star?
-		else if (player[turn].hasFoundTheStar()) {
-			Route r = new Route();
-			Route[] routes = new Route[3];
-			routes[0] = getShortestRoute(startingPoints[0],budget,budget >= 300);
-			routes[1] = getShortestRoute(startingPoints[1],budget,budget >= 300);
-			routes[2] = calculateAirRoute(budget);
-			if (routes[0].compareTo(routes[1]) <= 0 && routes[0].compareTo(routes[2]) <= 0) {
-				r = routes[0];
-			}
-			else if (routes[1].compareTo(routes[0]) <= 0 && routes[1].compareTo(routes[2]) <= 0) {
-				r = routes[1];
-			}
-			else {
-				r = routes[2];
-			}
-			// If traveling by sea or by air, the player has to pay...
-			if (r.get(0).isCity() && r.get(0).getConnectedBySea().contains(r.get(1))) {
-				player[turn].setMoney(player[turn].getMoney() - 100);
-				player[turn].setLockedDestination(r.getLockedDestination());
-			}
-			if (r.get(0).isCity() && r.get(0).getConnectedByAir().contains(r.get(1))) {
-				soundPlayer.play("snd/airplane.wav");
-				player[turn].setMoney(player[turn].getMoney() - 300);
+	}
+	
+	// Returns a copy of the state of the game, taken on the event thread
+	private GameState snapshot() {
+		show(new Runnable() {
+			public void run() {
+				current.copyFrom(state);
+			}
+		});
+		return new GameState(current);
+	}
+	
+	// Makes the state of the game what the given copy of it has become
+	private void publish(final GameState s) {
+		show(new Runnable() {
+			public void run() {
+				state.copyFrom(s);
 			}
-			else {
+		});
+	}
+	
+	private void showDiceRoll(final int rand) {
+		show(new Runnable() {
+			public void run() {
 				pf.showDiceRoll(rand);
-				pause(DELAY);
 			}
-			pf.moveMade(r.getDestination(rand));
+		});
+	}
+	
+	// Shows a move by land or sea, and waits until it has been shown
+	private void showMove(final Place destination) {
+		show(new Runnable() {
+			public void run() {
+				pf.moveMade(destination);
+			}
+		});
+		pf.awaitAnimation();
+	}
+	
+	// The strategy, unless it's still busy with a late decision
+	private AIStrategy decider() {
+		if (late != null && !late.isDone()) {
+			return fallback;
 		}
-
-		// Is the player standing on a city with a token?
-		else if (player[turn].getPlace().getToken() != null) {
-			pf.showDiceRoll(rand);
-			pause(DELAY);
-			if (rand >= 4) {
-				pf.openToken();
-				pause(DELAY);
-			}
+		late = null;
+		return strategy;
+	}
+	
+	// Starts the decision of a move in a thread of its own
+	private FutureTask<AIMove> decide(final GameState s, final int dice) {
+		final AIStrategy decider = decider();
+		return start(new FutureTask<AIMove>(new Callable<AIMove>() {
+			public AIMove call() {
+				return decider.chooseMove(s, dice);
+			}
+		}), decider);
+	}
+	
+	// Starts the decision whether to buy a token in a thread of its own
+	private FutureTask<Boolean> decideToken(final GameState s) {
+		final AIStrategy decider = decider();
+		return start(new FutureTask<Boolean>(new Callable<Boolean>() {
+			public Boolean call() {
+				return decider.wantsToken(s);
+			}
+		}), decider);
+	}
+	
+	// Starts a decision in a thread of its own, unless the fallback makes it. The strategy may only make one decision at a time.
+	private <T> FutureTask<T> start(FutureTask<T> task, AIStrategy decider) {
+		if (decider == fallback) {
+			task.run();
+			return task;
 		}
-
-		else {
-			// If we're not standing on a token, find the best token, and the best route to it
-			if (player[turn].getPlace().getToken() == null) {
-				Route route = getShortestRoute(getOptimalDestination(budget),budget,budget >= 300);
-
-				// If traveling by sea or by air, the player has to pay...
-				if ((route.get(0).isCity() || route.get(0).isStart()) && route.get(0).getConnectedBySea().contains(route.get(1))) {
-					player[turn].setMoney(player[turn].getMoney() - 100);
-					player[turn].setLockedDestination(route.getLockedDestination());
-				}
-				if ((route.get(0).isCity() || route.get(0).isStart()) && route.get(0).getConnectedByAir().contains(route.get(1))) {
-					soundPlayer.play("snd/airplane.wav");
-					player[turn].setMoney(player[turn].getMoney() - 300);
-				}
-				else {
-					pf.showDiceRoll(rand);
-					pause(DELAY);
-				}
-				pf.moveMade(route.getDestination(rand));
-				moved = true;
-			}
+		Thread thread = new Thread(task, "AI decision");
+		thread.setDaemon(true);
+		thread.start();
+		return task;
+	}
+	
+	// Waits for a decision to be made, but no longer than until the given moment. Returns null if the decision is late.
+	private <T> T await(FutureTask<T> task, long until) {
+		try {
+			return deadline > 0 ? task.get(until - System.currentTimeMillis(), TimeUnit.MILLISECONDS) : task.get();
 		}
-
-		// If we moved onto a token we probably want to open it
-		if (moved) {
-			// Are we on the mainland with money enough to open the token?
-			if (player[turn].getPlace().getToken() != null && player[turn].getMoney() >= 100 && !pf.playerOnIsland(player[turn])) {
-				player[turn].setMoney(player[turn].getMoney() - 100);
-				pf.updateMoney();
-				pf.openToken();
-				pause(DELAY);
-			}
-			// Are we on an island with money enough to open the token AND still get off the island?
-			if (player[turn].getPlace().getToken() != null && player[turn].getMoney() >= 200 && pf.playerOnIsland(player[turn])) {
-				player[turn].setMoney(player[turn].getMoney() - 100);
-				pf.updateMoney();
-				pf.openToken();
-				pause(DELAY);
-			}
+		catch (TimeoutException e) {
+			late = task;
+			timeouts++;
+			System.err.println("An AI decision took longer than " + deadline + " ms (" + timeouts + " so far), the fallback decided instead.");
+			return null;
+		}
+		catch (Exception e) {
+			throw new RuntimeException(e);
 		}
-		pf.updateMoney();
 	}
 	
 	/**
-	 * Calculates the optimal destination. For now the method isn't all that clever. It basically
-	 * a slightly enhanced "look-up-the-nearest-token"-routine. Despite its simplicity it still
-	 * gives good results most of the time.
-	 * 
-	 * @param budget	how much money the player has allocated to traveling
-	 * @return			the place that is deemed to be optimal
+	 * @return	the number of decisions that missed the deadline
 	 */
-	private Place getOptimalDestination(int budget) {
-		int i = 1;
-		boolean found = false;
-		HashSet<Place> temp;
-		Place destination = null;
-		int land = 1000;
-		int sea = 0;
-		// Get nearest token by land
-		do {
-			temp = calculateRoute(player[turn].getPlace(),i,false);
-			for (Place p : temp) {
-				if (p.getToken() != null) {
-					destination = p;
-					land = i;
-					found = true;
-				}
-			}
-			i++;
-			if (i > 50) {
-				break;
-			}
-		} while (!found);
-
-		// Get nearest token by sea
-		if (budget >= 100) {
-			found = false;
-			i = 1;
-			do {
-				temp = calculateRoute(player[turn].getPlace(),i,true);
-				for (Place p : temp) {
-					if (p.getToken() != null) {
-						if (land - i > 3) {
-							destination = p;
-						}
-						sea = i;
-						found = true;
-					}
-				}
-				i++;
-			} while (!found);
-		}
-
-		// If there aren't any tokens nearby, and money isn't a problem, suggest a plane reachable destination.
-		if (budget >= 300 && Math.min(land, sea) > 8) {
-			for (Place p : player[turn].getPlace().getConnectedByAir()) {
-				if (p.getToken() != null) {
-					return p;
-				}
-			}
-		}
-		return destination;
-	} 
-
+	public int getTimeouts() {
+		return timeouts;
+	}
+	
 	/**
-	 * Looks up the next leg of the route by either land or sea - a leg being a part of the route
-	 * that has no intersections to worry about. As soon as an intersection is encountered, the
-	 * method returns the ball to its caller, which gets to sort it out.
+	 * Starts the decision of the next turn, if the next player is an AI player who will have a choice to make.
 	 * 
-	 * @param previous		the route so far. Needed so that the method knows not to backtrack.
-	 * @param destination	the destination
-	 * @param sea			shall the method check sea routes or not
-	 * @param seaOnly		shall the method check sea routes only
-	 * @return				the previous Route appended with the leg to the next intersection. If
-	 * 						the route doesn't lead to the destination, or leads to the destination
-	 * 						in a convoluted manner that can not be the best route, <code>null</code>
-	 * 						will be returned.
+	 * @param s	the state of the game as it will be at the end of the current turn
 	 */
-	private Route getRouteToNextIntersection(Route previous, Place destination, boolean sea, boolean seaOnly) {
-		if (seaOnly) {
-			sea = true;
+	private void prepareNext(GameState s) {
+		if (s.isGameOver()) {
+			return;
 		}
-		Place temp = previous.get(previous.size() - 1);
-		Place newPlace = null;
-		Route newRoute = new Route();
-		HashSet<Place> helper = new HashSet<Place>();
-		int i;
-		while (true) {
-			i = 0;
-			helper.clear();
-			if (!seaOnly) {
-				helper.addAll(temp.getConnectedByLand());
-			}
-			if (sea) {
-				helper.addAll(temp.getConnectedBySea());
-			}
-			for (Place p : helper) { // Get all neighbors to the last place
-				if (!previous.contains(p) && !newRoute.contains(p)) { // If that place isn't already on the route...
-					i++;
-					newPlace = p;	// ...add it.
-					if (p.equals(destination)) { // This means we're done with this route.
-						newRoute.add(p);
-						return newRoute;
-					}
-				}
-			}
-			// Dead end, loop, or sea route when we're not looking for one.
-			if (i == 0) {
-				return null;
-			}
-			// Just another step on the route
-			if (i == 1) {
-				newRoute.add(newPlace);
-			}
-			// We've arrived at an intersection
-			if (i > 1) {
-				return newRoute;
-			}
-			temp = newPlace;
+		GameState coming = new GameState(s);
+		engine.endTurn(coming);
+		if (player[coming.getTurn()].isHuman()) {
+			return;
 		}
-	} 
-
+		nextHash = coming.hash();
+		nextDice = random.rollDice();
+		// A slave, a captured player who doesn't get free, or a shipbound one has nothing to decide
+		if (!engine.serveSlaveTurn(coming) && engine.escape(coming, nextDice)
+				&& coming.getLockedDestination(coming.getTurn()) < 0) {
+			next = decide(coming, nextDice);
+		}
+	}
+	
 	/**
-	 * Gets the shortest route, where shortest means shortest average time to get there.
-	 * 
-	 * @param destination	the destination the player wants to go to
-	 * @param budget		the amount of money the player has allocated to traveling
-	 * @param planeAllowed	true if plane routes should be considered, otherwise false
-	 * @return				the fastest route from the player's location to his destination
+	 * This is the method that gets kicked off by the run()-method whenever it is notified.
 	 */
-	private Route getShortestRoute(Place destination, int budget, boolean planeAllowed) {
-		HashSet<Route> routes = new HashSet<Route>();
-		HashSet<Route> tempRoutes = new HashSet<Route>();
-		HashSet<Place> helper = new HashSet<Place>();
-		Route route = new Route();
-		Route tempRoute;
-		boolean seaRouteOnly;
-		boolean tokensOnMadagascar;
-		route.add(player[turn].getPlace());
-		routes.add(route);
-		// If the destination is right next door, we just add it and return the result
-		if (player[turn].getPlace().getConnectedByLand().contains(destination)) {
-			route.add(destination);
-			return route;
+	private void makeAIMove() {
+		// The diceroll, and maybe the decision, were already made during the previous turn,
+		// unless the game didn't go as expected
+		// The state of the game belongs to the event thread, so the rules are applied to a copy taken there,
+		// and the changes are published there
+		GameState start = snapshot();
+		int rand;
+		FutureTask<AIMove> decision = null;
+		if (nextDice > 0 && nextHash == start.hash()) {
+			rand = nextDice;
+			decision = next;
 		}
-		boolean done = false;
-		do {
-			for (Route r : routes) {
-				helper.clear();
-				helper.addAll(r.get(r.size() - 1).getConnectedByLand());
-				helper.addAll(r.get(r.size() - 1).getConnectedBySea());
-				if (r.size() == 1 && budget >= 300 && planeAllowed) {
-					helper.addAll(r.get(r.size() - 1).getConnectedByAir());
-				}
-				for (Place p : helper) {
-					tempRoute = new Route();
-					if (r.get(r.size() - 1).equals(destination)) { // If we're already at the destination nothing needs to be added
-						tempRoutes.add(r);
-					}
-					else if (!r.contains(p)) { // If not we just check that we're not going in loops, and add another part
-						tempRoute.addAll(r); // Add the route so far
-						tempRoute.add(p); // Decide which branch to take
-						
-						// In the rare case where the player is on an island and there are no tokens left on the mainland
-						// we'll check only the sea routes, because checking only 1 sea route isn't sufficient, and checking
-						// 2 + all the land routes will take a fairly long time and sometimes cause a memory heap overflow
-						// since checking these routes is an O(e^n) operation :-(
-						seaRouteOnly = (pf.playerOnIsland(player[turn]) && pf.tokensOnlyLeftOnIslands());
-						
-						// Madagascar must be given special consideration since it has a land route between the cities, and
-						// using that is *clearly* the best option
-						tokensOnMadagascar = false;
-						for (Place city : cities) {
-							if ((city.getName().equals("Cape St. Marie") || city.getName().equals("Tamatave")) && city.getToken() != null) {
-								tokensOnMadagascar = true;
-							}
-						}
-						if (player[turn].getPlace().getX() >= 1447 && player[turn].getPlace().getY() >= 1738 && tokensOnMadagascar) {
-							seaRouteOnly = false;
-						}
-						
-						// Append the route to the next intersection
-						Route helperRoute = getRouteToNextIntersection(tempRoute,destination,r.getCost() <= Math.min(100, budget), seaRouteOnly);
-						if (helperRoute != null) {
-							tempRoute.addAll(helperRoute); // Add route to next intersection
-							if (tempRoute.getCost() <= budget) {
-								tempRoutes.add(tempRoute);
-							}
-						}
-
-					}
-				}
-			}
-			routes.clear();
-			routes.addAll(tempRoutes);
-			tempRoutes.clear();
-			done = true;
-			// If any of the routes ends somwhere else than the designated destination, we're not done yet.
-			for (Route r : routes) {
-				if (!r.get(r.size() - 1).equals(destination)) {
-					done = false;
-				}
-				if (done) {
-					route = r;
-				}
+		else {
+			// The decision made for another position is of no use, so it isn't waited for
+			if (next != null && !next.isDone()) {
+				late = next;
 			}
-		} while (!done);
+			rand = random.rollDice();
+		}
+		next = null;
+		nextDice = 0;
 
-		// If the player doesn't have the star, but does have the budget, we might consider destinations (by air) that the
-		// getOptimalDestinations-method didn't think of.
-		if (!player[turn].hasFoundTheStar() && budget >= 300 && planeAllowed) {
-			for (Place p : player[turn].getPlace().getConnectedByAir()) {
-				if (p.getToken() != null) {
-					Route r = new Route();
-					r.add(player[turn].getPlace());
-					r.add(p);
-					routes.add(r);
-				}
-			}
+		// An enslaved player can't do anything
+		if (engine.serveSlaveTurn(start)) {
+			publish(start);
+			prepareNext(start);
+			return;
 		}
-		
-		// Which one is best?
-		for (Route r : routes) {
-			if (route.compareTo(r) > 0) {
-				route = r;
-			}
+
+		// Neither can a captured one who doesn't roll 1 or 2
+		boolean free = engine.escape(start, rand);
+		publish(start);
+		if (!free) {
+			prepareNext(start);
+			showDiceRoll(rand);
+			pause();
+			return;
 		}
-		// If we were unable to get a valid route using these means, we'll have to increase the budget and try again.
-		// However, since we by increasing this amount might actually exceed the amount of money that the player has
-		// at his disposal we must forbid the use of plane routes, lest we eventually encounter a situation where
-		// the player will spend more money than he has
-		if (route.size() < 2) {
-			return getShortestRoute(destination, budget + 100, false);
+
+		// Or a stranded one...
+		if (pf.checkStranded(player[turn])) {
+			return;
 		}
-		return route;
-	}
-	
-	/**
-	 * This method calculates the air route from the player's location that, given
-	 * the player's budget, will get him as close to one of the starting points as
-	 * possible. This is used by rich AI players who are heading back home in a hurry.
-	 * 
-	 * @param budget	the amount of money the player has
-	 * @return			the optimal route
-	 */
-	private Route calculateAirRoute (int budget) {
-		if (player[turn].getPlace().getConnectedByAir().isEmpty() || budget < 300) {
-			return null;
+
+		// Play the turn through on a copy first, so that the next turn can be prepared while this one is shown
+		GameState after = new GameState(start);
+		AIMove move = null;
+		long shown = System.currentTimeMillis();
+		long until = shown + deadline; // The decisions of the whole turn must be made by then
+		boolean moved;
+		showDiceRoll(rand);
+		if (after.getLockedDestination(turn) >= 0) { // Is the player shipbound?
+			engine.move(after, engine.getMoveOptions(after, engine.getSteps(after, rand))[0]);
+			moved = true;
 		}
-		int num = budget / 300;
-		HashSet<Place> connected = new HashSet<Place>();
-		HashSet<Place> connections = new HashSet<Place>();
-		HashSet<Place> temp = new HashSet<Place>(); // Required since you can't add to a set while iterating over it
-		connected.add(player[turn].getPlace());
-		for (int i = 1 ; i <= num ; i++) {
-			for (Place p : connected) {
-				connections.clear();
-				connections.addAll(p.getConnectedByAir()); // Add all air routes...
-				for (Place q : connections) {
-					temp.add(q); // Add the connected places to the temporary variable...
-				}
+		else {
+			if (decision == null) {
+				decision = decide(new GameState(start), rand);
 			}
-			connected.addAll(temp); // ...and add all those to our main set
-			temp.clear();
-			// If we're already at our destination, there is no reason to look further
-			if (connected.contains(startingPoints[0])) {
-				return getShortestAirRoute(startingPoints[0]);
+			move = await(decision, until);
+			if (move == null) {
+				move = fallback.chooseMove(new GameState(start), rand);
 			}
-			if (connected.contains(startingPoints[1])) {
-				return getShortestAirRoute(startingPoints[1]);
+			// Once the player has the star, he's only interested in getting home
+			moved = !after.hasFoundTheStar(turn);
+			if (move.getType() == AIMove.ROLL_FOR_TOKEN) {
+				engine.rollForToken(after, rand);
+				moved = false;
 			}
-		}
-		
-		// Now that we have all air reachable destinations, let's check which one is closest to the goal
-		Place destination = player[turn].getPlace();
-		int minDistance = 1000;
-		int distance = 10000;
-		int i;
-		boolean found;
-		for (Place q : connected) {
-			i = 0;
-			found = false;
-			do {
-				temp = calculateRoute(q,i,budget % 300 >= 100);
-				for (Place p : temp) {
-					if (p.isStart()) {
-						distance = i;
-						found = true;
-					}
-				}
-				i++;
-				if (i > 50) {
-					distance = 10000;
-					break;
-				}
-			} while (!found);
-			if (distance < minDistance) {
-				minDistance = distance;
-				destination = q;
+			else if (!engine.makeMove(after, move)) {
+				moved = false;
 			}
 		}
-		return getShortestAirRoute(destination);
-	}
+		// If we moved onto a token we probably want to open it
+		boolean buy = false;
+		if (moved && engine.canBuyToken(after)) {
+			Boolean wants = await(decideToken(new GameState(after)), until);
+			buy = wants != null ? wants : fallback.wantsToken(new GameState(after));
+		}
+		if (buy) {
+			engine.buyToken(after);
+		}
+		prepareNext(after);
 
-	/**
-	 * This method checks which places the computer can reach by taking a certain amount
-	 * of steps. It is used by being called repeatedly, with increasing step-count in
-	 * order to find the distance from one place to another, when the precise route is
-	 * not (yet) important.
-	 * 
-	 * @param source	the place from where the distance is to be counted
-	 * @param steps		the number of steps to be taken
-	 * @param sea		are sea routes to be checked
-	 * @return			the cities and starting points which are reachable with the
-	 * 					given number of steps
-	 */
-	private HashSet<Place> calculateRoute (Place source, int steps, boolean sea) {
-		HashSet<Place> connected = new HashSet<Place>();
-		HashSet<Place> canMove = new HashSet<Place>();
-		HashSet<Place> connections = new HashSet<Place>();
-		HashSet<Place> temp = new HashSet<Place>(); // Required since you can't add to a set while iterating over it
-		connected.add(source);
-		for (int i = 1 ; i < steps ; i++) { // Go through the loop one time less than required for an answer
-			for (Place p : connected) {
-				connections.clear();
-				connections.addAll(p.getConnectedByLand()); // Add all landroutes...
-				if (sea) {
-					connections.addAll(p.getConnectedBySea()); // ...and searoutes if requested
-				}
-				for (Place q : connections) {
-					temp.add(q); // Add the connected places to the temporary variable...
-				}
-			}
-			connected.addAll(temp); // ...and add all those to our main set
-			temp.clear();
+		// Then show it
+		if (move == null) {
+			pause(shown);
+			showMove(board.getPlace(engine.getMoveOptions(start, engine.getSteps(start, rand))[0]));
 		}
-		for (Place p : connected) {
-			connections.clear();
-			connections.addAll(p.getConnectedByLand());
-			if (sea) {
-				connections.addAll(p.getConnectedBySea());
-			}
-			for (Place q : connections) {
-				if (!connected.contains(q) || q.isCity() || q.isStart()) {
-					canMove.add(q);
+		else {
+			final AIMove shownMove = move;
+			switch (move.getType()) {
+			case AIMove.STAY:
+				pause(shown);
+				break;
+			case AIMove.ROLL_FOR_TOKEN:
+				pause(shown);
+				if (rand >= RulesEngine.TOKEN_ROLL) {
+					show(new Runnable() {
+						public void run() {
+							pf.openToken();
+						}
+					});
+					pause();
 				}
+				break;
+			case AIMove.FLY:
+				show(new Runnable() {
+					public void run() {
+						pf.flyTo(board.getPlace(shownMove.getDestination()));
+					}
+				});
+				pf.awaitAnimation();
+				break;
+			case AIMove.SAIL:
+			case AIMove.SAIL_UNPAID:
+				show(new Runnable() {
+					public void run() {
+						pf.boardShip(board.getPlace(shownMove.getPort()), shownMove.getType() == AIMove.SAIL);
+					}
+				});
+				// The player moves on the same turn
+				pause(shown);
+				showMove(board.getPlace(move.getDestination()));
+				break;
+			default:
+				pause(shown);
+				showMove(board.getPlace(move.getDestination()));
 			}
 		}
-		return canMove;
-	}
-	
-	/**
-	 * Gets the shortest (fewest hops) air route between two places without considering more
-	 * complex things such as budgets.
-	 * 
-	 * @param destination	the destination
-	 * @return				the shortest route
-	 */
-	private Route getShortestAirRoute(Place destination) {
-		Route route = new Route();
-		route.add(player[turn].getPlace());
-		HashSet<Route> routes = new HashSet<Route>();
-		HashSet<Route> temp = new HashSet<Route>();
-		routes.add(route);
-		while (true) {
-			for (Route r : routes) {
-				for (Place p : r.get(r.size()-1).getConnectedByAir()) {
-					Route q = new Route();
-					q.addAll(r);
-					q.add(p);
-					if (p.equals(destination)) {
-						return q;
-					}
-					temp.add(q);
+		if (buy) {
+			show(new Runnable() {
+				public void run() {
+					pf.buyToken();
 				}
-			}
-			routes.clear();
-			routes.addAll(temp);
-			temp.clear();
+			});
+			pause();
 		}
+		show(new Runnable() {
+			public void run() {
+				pf.updateMoney();
+			}
+		});
 	}
 	
 	public void setPlayingField(PlayingField pf) {
@@ -582,8 +399,16 @@ public class AIPlayer extends Thread {
 		while (true) {
 			nothingToDo = true;
 			synchronized(this) {
-				if (!firstRun && !pf.gameIsOver()) { // The first time, and the last time we don't want to do this, but normally we do
-					pf.actionPerformed(new ActionEvent(player[turn],0,"End turn"));
+				if (!firstRun) { // The first time, and the last time we don't want to do this, but normally we do
+					// Not waited for, since ending the turn may notify this thread, which holds the lock until it waits
+					final ActionEvent end = new ActionEvent(player[turn],0,"End turn");
+					SwingUtilities.invokeLater(new Runnable() {
+						public void run() {
+							if (!pf.gameIsOver()) {
+								pf.actionPerformed(end);
+							}
+						}
+					});
 				}
 				firstRun = false;
 				while (nothingToDo) {
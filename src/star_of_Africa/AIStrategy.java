@@ -0,0 +1,50 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+/**
+ * The decision making of an AI player. The same strategy is used whether the game is
+ * played in the GUI or simulated, so an implementation must only read the GameState,
+ * never change it. An instance may keep work memory between calls, which means that
+ * it must not be shared between threads.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public interface AIStrategy {
+
+	/**
+	 * Decides what the player in turn does, when he's neither at sea nor prevented from
+	 * moving.
+	 * 
+	 * @param state	the state of the game
+	 * @param dice	the value of the diceroll
+	 * @return		the move
+	 */
+	public AIMove chooseMove(GameState state, int dice);
+
+	/**
+	 * Decides whether the player in turn buys the token he has just moved onto.
+	 * 
+	 * @param state	the state of the game
+	 * @return		<code>true</code> if the token should be bought
+	 */
+	public boolean wantsToken(GameState state);
+}
@@ -0,0 +1,170 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.awt.Point;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+
+import javax.swing.Timer;
+
+/**
+ * This class moves sprites along paths on the Swing event thread, driven by a frame clock.
+ * Every frame puts each moving sprite where it should be at that moment, so when frames
+ * run late (the clock merges the ticks it couldn't deliver in time) the skipped frames are
+ * simply never drawn, and the move still takes the time it was given. Only the area the
+ * sprite leaves and the area it enters are repainted.
+ * </p>
+ * Whoever started a move is told that it's over through a callback, which is run on the event
+ * thread. Threads other than the event thread may also wait for all the moves to end.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class Animator implements ActionListener {
+
+	private static final int FRAME_PERIOD = 16; // Milliseconds, about 60 frames per second
+
+	private final Timer clock = new Timer(FRAME_PERIOD, this);
+	private final ArrayList<Move> moves = new ArrayList<Move>(); // Only touched on the event thread
+	private int running; // The moves started but not yet over, callbacks included
+
+	// A sprite on its way along a path
+	private static class Move {
+		final Sprite sprite;
+		final Point[] path;
+		final long start;
+		final long duration;
+		final Runnable done;
+
+		Move(Sprite sprite, Point[] path, long duration, Runnable done) {
+			this.sprite = sprite;
+			this.path = path;
+			this.duration = duration;
+			this.done = done;
+			start = System.currentTimeMillis();
+		}
+
+		// Puts the sprite where it should be at the given moment. Returns true when it has arrived.
+		boolean step(long now) {
+			double progress = duration <= 0 ? 1 : Math.min(1, (double)(now - start) / duration);
+			// Every leg of the path takes the same time
+			double position = progress * (path.length - 1);
+			int leg = Math.min(path.length - 2, (int)position);
+			double along = position - leg;
+			Point from = path[leg];
+			Point to = path[leg + 1];
+			sprite.setLocation((int)Math.round(from.x + (to.x - from.x) * along), (int)Math.round(from.y + (to.y - from.y) * along));
+			return progress >= 1;
+		}
+	}
+
+	public Animator() {
+		clock.setCoalesce(true);
+	}
+
+	/**
+	 * Starts moving a sprite along a path. A sprite that is already moving is first put
+	 * at the end of its current path. Must be called on the event thread.
+	 * 
+	 * @param sprite	the sprite
+	 * @param path		the locations the sprite passes through, both ends included
+	 * @param duration	the time the whole move takes in milliseconds
+	 * @param done		run on the event thread once the sprite has arrived, or <code>null</code>
+	 */
+	public void move(Sprite sprite, Point[] path, long duration, Runnable done) {
+		for (int i = 0 ; i < moves.size() ; i++) {
+			if (moves.get(i).sprite == sprite) {
+				finish(moves.remove(i), Long.MAX_VALUE);
+				break;
+			}
+		}
+		synchronized (this) {
+			running++;
+		}
+		if (path.length < 2) {
+			path = new Point[] {sprite.getLocation(), path.length == 0 ? sprite.getLocation() : path[0]};
+		}
+		moves.add(new Move(sprite, path, duration, done));
+		if (!clock.isRunning()) {
+			clock.start();
+		}
+	}
+
+	/**
+	 * Draws the next frame. Called by the clock.
+	 */
+	public void actionPerformed(ActionEvent e) {
+		long now = System.currentTimeMillis();
+		for (int i = 0 ; i < moves.size() ; i++) {
+			Move move = moves.get(i);
+			if (move.step(now)) {
+				moves.remove(i--);
+				finish(move, now);
+			}
+		}
+		if (moves.isEmpty()) {
+			clock.stop();
+		}
+	}
+
+	/**
+	 * Puts every moving sprite at the end of its path at once. Must be called on the event thread.
+	 */
+	public void finishAll() {
+		while (!moves.isEmpty()) {
+			finish(moves.remove(0), Long.MAX_VALUE);
+		}
+		clock.stop();
+	}
+
+	// Puts a sprite at the end of its path, and tells whoever is waiting for it
+	private void finish(Move move, long now) {
+		move.step(now);
+		try {
+			if (move.done != null) {
+				move.done.run();
+			}
+		}
+		finally {
+			// Even a failed callback must not leave the waiting threads waiting forever
+			synchronized (this) {
+				running--;
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Waits until all the moves are over. Must not be called on the event thread.
+	 */
+	public synchronized void awaitIdle() {
+		while (running > 0) {
+			try {
+				wait();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+/**
+ * This class sets up the game board: all places where a player's gamepiece can
+ * possibly land, and the connections between these places. The board is defined in
+ * <code>rsrc/board/africa.txt</code> and read by the BoardFile class. The board doesn't
+ * change during a game, so one instance (including its distance tables and rules engine)
+ * can be shared by any number of games, also by games played in parallel.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.1
+ */
+public class Board {
+
+	/** The board that is used unless the <code>star_of_Africa.board</code> system property names another one */
+	public static final String DEFAULT_BOARD = "board/africa.txt";
+	private HashSet<Place> places = new LinkedHashSet<Place>(); // Linked, so that they're in the order of their ids
+	private HashSet<Place> cities = new LinkedHashSet<Place>();
+	private Place[] startingPoints = new Place[2];
+	private BoardGraph graph;
+	private DistanceTable distances;
+	private RulesEngine engine;
+
+	/**
+	 * Loads the default board, or the one named by the <code>star_of_Africa.board</code>
+	 * system property.
+	 *
+	 * @throws IllegalStateException	if the board can't be loaded
+	 */
+	public Board() {
+		this(load(System.getProperty("star_of_Africa.board", DEFAULT_BOARD)),
+				System.getProperty("star_of_Africa.board", DEFAULT_BOARD));
+	}
+
+	/**
+	 * Loads a board from a file, or a resource if there's no such file.
+	 *
+	 * @param name	the file or resource name of the board definition
+	 * @throws IOException	if the board can't be loaded
+	 */
+	public Board(String name) throws IOException {
+		this(BoardFile.load(name), name);
+	}
+
+	private Board(BoardGraph graph, String name) {
+		this.graph = graph;
+		int start = 0;
+		for (int i=0 ; i<graph.size() ; i++) {
+			Place p = graph.getPlace(i);
+			places.add(p);
+			if (p.isCity()) {
+				cities.add(p);
+			}
+			if (p.isStart() && start < startingPoints.length) {
+				startingPoints[start++] = p;
+			}
+		}
+		if (start < startingPoints.length) {
+			throw new IllegalStateException("The board needs two starting points.");
+		}
+		distances = new DistanceTable(graph);
+		engine = new RulesEngine(graph, getTurnTableName(name));
+	}
+
+	/**
+	 * @param name	the file or resource name of a board definition
+	 * @return		the name of the file its turn tables are stored in, <code>africa.turns</code> for
+	 * 				<code>africa.txt</code>
+	 */
+	public static String getTurnTableName(String name) {
+		return (name.endsWith(".txt") ? name.substring(0, name.length() - 4) : name) + ".turns";
+	}
+
+	// The default board is part of the game, so not being able to load it is not something the caller can fix
+	private static BoardGraph load(String name) {
+		try {
+			return BoardFile.load(name);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Can't load the board: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @return	all the places on the board, in the order of their ids
+	 */
+	public HashSet<Place> getPlaces() {
+		return places;
+	}
+
+	/**
+	 * @return	all the cities on the board, in the order of their ids
+	 */
+	public HashSet<Place> getCities() {
+		return cities;
+	}
+
+	/**
+	 * @return	Tangier and Cairo, in that order
+	 */
+	public Place[] getStartingPoints() {
+		return startingPoints;
+	}
+
+	public BoardGraph getGraph() {
+		return graph;
+	}
+
+	public DistanceTable getDistances() {
+		return distances;
+	}
+
+	public RulesEngine getEngine() {
+		return engine;
+	}
+}
@@ -0,0 +1,186 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.ArrayList;
+
+import javax.swing.JComponent;
+
+/**
+ * This class is the single component the board is shown on. Everything on it is painted by the
+ * canvas itself from a list of Sprites kept in layers, the way a JLayeredPane keeps components,
+ * so nothing needs to be laid out when a piece moves or a token is opened.
+ * </p>
+ * The layers that seldom change, the board itself and the tokens, are cached in an image that
+ * covers the part of the board in view and a margin around it. A paint copies the cached image
+ * and draws the gamepieces and the movement markers on top. When a sprite changes, only the areas
+ * it left and entered are painted again, and if it's cached, only those areas of the cache are
+ * redrawn. The whole cache is only redrawn when the board is zoomed, or scrolled beyond the margin.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class BoardCanvas extends JComponent {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final int TOKENS = 1; // The layers, from the bottom up. The board itself is below them all.
+	public static final int RINGS = 2;
+	public static final int PIECES = 3;
+	private static final int CACHED = TOKENS; // The topmost layer that's cached
+	private static final int MARGIN = 256; // Pixels cached beyond the view on every side
+
+	private TilePyramid board;
+	private double scale = 1;
+	private boolean rough;
+	private ArrayList<Sprite> sprites = new ArrayList<Sprite>(); // Sorted by layer
+	private BufferedImage cache; // The board and the cached layers
+	private Rectangle cached; // The area of the canvas the cache covers, or null if it needs redrawing
+	private int cachedLevels; // The number of levels of the pyramid that were ready when the cache was drawn
+
+	/**
+	 * Constructs the canvas, and starts building the board from an image.
+	 * 
+	 * @param image		the image of the board
+	 * @param width		the width of the image in pixels
+	 * @param height	the height of the image in pixels
+	 */
+	public BoardCanvas(URL image, int width, int height) {
+		board = new TilePyramid(image, width, height, this);
+		setOpaque(true);
+	}
+
+	/**
+	 * Sets the size the board is drawn at.
+	 * 
+	 * @param scale	the number of pixels of the board image per pixel drawn
+	 * @param rough	should the board be drawn without smoothing, which is faster?
+	 */
+	public void setScale(double scale, boolean rough) {
+		this.scale = scale;
+		this.rough = rough;
+		cached = null;
+		repaint();
+	}
+
+	/**
+	 * Adds a sprite on top of the others in its layer.
+	 * 
+	 * @param sprite	the sprite
+	 * @param layer		the layer, e.g. TOKENS
+	 */
+	public void add(Sprite sprite, int layer) {
+		int i = sprites.size();
+		while (i > 0 && sprites.get(i - 1).getLayer() > layer) {
+			i--;
+		}
+		sprite.setCanvas(this, layer);
+		sprites.add(i, sprite);
+		changed(sprite, sprite.getBounds());
+	}
+
+	public void remove(Sprite sprite) {
+		if (sprites.remove(sprite)) {
+			changed(sprite, sprite.getBounds());
+			sprite.setCanvas(null, 0);
+		}
+	}
+
+	// Called by a sprite for each area it has to be painted again in
+	void changed(Sprite sprite, Rectangle area) {
+		if (area.isEmpty()) {
+			return;
+		}
+		if (sprite.getLayer() <= CACHED && cached != null && cached.intersects(area)) {
+			Graphics2D g = cache.createGraphics();
+			g.translate(-cached.x, -cached.y);
+			g.clip(area);
+			draw(g, CACHED);
+			g.dispose();
+		}
+		repaint(area.x, area.y, area.width, area.height);
+	}
+
+	// Draws the board, and the layers up to the given one, within the clip of the graphics context
+	private void draw(Graphics2D g, int top) {
+		Rectangle clip = g.getClipBounds();
+		g.setColor(getBackground());
+		g.fillRect(clip.x, clip.y, clip.width, clip.height);
+		board.paint(g, scale, rough);
+		for (Sprite s : sprites) {
+			if (s.getLayer() > top) {
+				break;
+			}
+			if (s.getBounds().intersects(clip)) {
+				s.paint(g);
+			}
+		}
+	}
+
+	// Draws the cache anew, around the area in view
+	private void drawCache(Rectangle view) {
+		Rectangle area = new Rectangle(view.x - MARGIN, view.y - MARGIN, view.width + 2 * MARGIN, view.height + 2 * MARGIN);
+		area = area.intersection(new Rectangle(0, 0, getWidth(), getHeight()));
+		if (area.isEmpty()) {
+			return;
+		}
+		if (cache == null || cache.getWidth() != area.width || cache.getHeight() != area.height) {
+			GraphicsConfiguration gc = getGraphicsConfiguration();
+			cache = gc != null ? gc.createCompatibleImage(area.width, area.height)
+					: new BufferedImage(area.width, area.height, BufferedImage.TYPE_INT_RGB);
+		}
+		cached = area;
+		cachedLevels = board.getReadyLevels();
+		Graphics2D g = cache.createGraphics();
+		g.translate(-area.x, -area.y);
+		g.setClip(area);
+		draw(g, CACHED);
+		g.dispose();
+	}
+
+	protected void paintComponent(Graphics graphics) {
+		Graphics2D g = (Graphics2D)graphics;
+		Rectangle clip = g.getClipBounds();
+		if (clip == null) {
+			clip = new Rectangle(0, 0, getWidth(), getHeight());
+		}
+		Rectangle view = getVisibleRect();
+		if (cached == null || !cached.contains(view) || cachedLevels != board.getReadyLevels()) {
+			drawCache(view);
+		}
+		if (cached != null && cached.contains(clip)) {
+			g.drawImage(cache, cached.x, cached.y, null);
+		}
+		else { // Painted outside the view, which is rare enough not to be cached
+			draw(g, CACHED);
+		}
+		for (Sprite s : sprites) {
+			if (s.getLayer() > CACHED && s.getBounds().intersects(clip)) {
+				s.paint(g);
+			}
+		}
+	}
+}
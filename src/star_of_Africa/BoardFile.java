@@ -0,0 +1,474 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * This class reads board definitions. A board is defined in a text file (see
+ * <code>rsrc/board/africa.txt</code> for the format), which is compiled into a compact
+ * binary image the first time it's used. The image is cached in the temporary directory,
+ * and later loaded by mapping the file into memory, which takes next to no time.
+ * Whether the cached image is up to date is told by the size and the modification time of
+ * the text, so the text itself isn't even read unless it has changed. Only where those can't
+ * be found out is the text read, and its CRC-32 checksum compared instead.
+ * </p>
+ * The image consists of a header (magic number, version, and the size, modification time and
+ * checksum of the text), the places (coordinates, flags and names) in the order of their
+ * ids, and the connections of each mode of travel in the offset/target form of the
+ * BoardGraph.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class BoardFile {
+
+	private static final int MAGIC = 0x534F4142; // "SOAB"
+	private static final int VERSION = 2;
+	private static final int CITY = 1;
+	private static final int START = 2;
+	private static final int HOSTILE = 4;
+	private static final String[] MODES = {"land", "sea", "air"}; // Indexed by BoardGraph.LAND, SEA and AIR
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	/**
+	 * Loads a board. The board is looked up as a file first, and as a resource (relative to this
+	 * class) if there's no such file.
+	 *
+	 * @param name	the file or resource name of the text definition
+	 * @return		the board graph
+	 * @throws IOException	if the board can't be read, or the definition has errors
+	 */
+	public static BoardGraph load(String name) throws IOException {
+		URL url = locate(name);
+		if (url == null) {
+			throw new IOException("Board " + name + " not found.");
+		}
+		File cache = new File(new File(System.getProperty("java.io.tmpdir"), "star_of_Africa"),
+				new File(url.getPath()).getName() + "-" + Integer.toHexString(url.toString().hashCode()) + ".bin");
+		long[] stamp = stamp(url);
+		if (stamp != null && cache.isFile()) {
+			try {
+				return decode(map(cache), stamp[0], stamp[1], -1);
+			}
+			catch (IOException e) {
+				// Unreadable, so it's rebuilt below
+			}
+			catch (RuntimeException e) {
+				// Out of date or damaged, so it's rebuilt below
+			}
+		}
+		byte[] text = read(url);
+		CRC32 crc = new CRC32();
+		crc.update(text);
+		long length = text.length;
+		long modified = stamp != null && stamp[0] == length ? stamp[1] : 0;
+		long checksum = crc.getValue();
+		if (stamp == null && cache.isFile()) {
+			try {
+				return decode(map(cache), length, -1, checksum);
+			}
+			catch (IOException e) {
+				// Unreadable, so it's rebuilt below
+			}
+			catch (RuntimeException e) {
+				// Out of date or damaged, so it's rebuilt below
+			}
+		}
+		ByteBuffer image = compile(new ByteArrayInputStream(text), name, length, modified, checksum);
+		store(image, cache);
+		return decode(image, length, -1, checksum);
+	}
+
+	/**
+	 * Finds out the size and the modification time of a file or resource without reading it.
+	 *
+	 * @param url	the file or resource
+	 * @return		the size and the modification time in milliseconds,
+	 * 				or <code>null</code> if they can't be found out
+	 */
+	static long[] stamp(URL url) {
+		long length;
+		long modified;
+		try {
+			if (url.getProtocol().equals("file")) {
+				File file = new File(url.toURI());
+				length = file.length();
+				modified = file.lastModified();
+			}
+			else { // E.g. an entry of a jar, whose size and time are in the directory of the jar
+				URLConnection connection = url.openConnection();
+				length = connection.getContentLengthLong();
+				modified = connection.getLastModified();
+			}
+		}
+		catch (IOException e) {
+			return null;
+		}
+		catch (URISyntaxException e) {
+			return null;
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+		if (length < 0 || modified <= 0) {
+			return null;
+		}
+		return new long[] {length, modified};
+	}
+
+	/**
+	 * Looks up a file, or a resource (relative to this class) if there's no such file.
+	 *
+	 * @param name	the file or resource name
+	 * @return		the location, or <code>null</code> if there's neither
+	 */
+	static URL locate(String name) throws IOException {
+		File file = new File(name);
+		if (file.isFile()) {
+			return file.toURI().toURL();
+		}
+		return BoardFile.class.getResource(name);
+	}
+
+	static byte[] read(URL url) throws IOException {
+		InputStream in = url.openStream();
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				out.write(buffer, 0, n);
+			}
+			return out.toByteArray();
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	// Maps a file into memory
+	static ByteBuffer map(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		finally {
+			raf.close(); // The mapping stays valid after the channel is closed
+		}
+	}
+
+	// Writes the image to the cache. A failure only means that the text has to be compiled again next time.
+	static void store(ByteBuffer image, File cache) {
+		File temp = null;
+		try {
+			cache.getParentFile().mkdirs();
+			// Written to a temporary file first, so that a game starting at the same time never sees half an image
+			temp = File.createTempFile(cache.getName(), ".tmp", cache.getParentFile());
+			FileOutputStream out = new FileOutputStream(temp);
+			try {
+				out.getChannel().write(image.duplicate());
+			}
+			finally {
+				out.close();
+			}
+			if (!temp.renameTo(cache)) {
+				cache.delete();
+				if (!temp.renameTo(cache)) {
+					temp.delete();
+				}
+			}
+		}
+		catch (IOException e) {
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Compiles a text definition into a binary image.
+	 *
+	 * @param in		the text definition
+	 * @param name		the name of the definition (for error messages)
+	 * @param length	the size of the text, stored in the header
+	 * @param modified	the modification time of the text, stored in the header, or 0 if it's not known
+	 * @param checksum	the checksum of the text, stored in the header
+	 * @return			the image
+	 * @throws IOException	if the definition can't be read or has errors, such as more cities than there are tokens
+	 */
+	public static ByteBuffer compile(InputStream in, String name, long length, long modified, long checksum) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF8));
+		LinkedHashMap<String, Place> places = new LinkedHashMap<String, Place>();
+		HashMap<Place, Integer> flags = new HashMap<Place, Integer>();
+		// Connections are resolved once all places are known
+		ArrayList<String[]> connections = new ArrayList<String[]>();
+		ArrayList<Place> connectionSources = new ArrayList<Place>();
+		ArrayList<Integer> connectionLines = new ArrayList<Integer>();
+		Place current = null;
+		String line;
+		int lineNumber = 0;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			line = line.trim();
+			if (line.length() == 0 || line.startsWith("#")) {
+				continue;
+			}
+			String where = name + ":" + lineNumber + ": ";
+			String[] words = line.split("\\s+");
+			if (words[0].equals("place")) {
+				if (words.length < 4) {
+					throw new IOException(where + "place needs an identifier and coordinates.");
+				}
+				if (places.containsKey(words[1])) {
+					throw new IOException(where + "place " + words[1] + " is defined twice.");
+				}
+				int x, y;
+				try {
+					x = Integer.parseInt(words[2]);
+					y = Integer.parseInt(words[3]);
+				}
+				catch (NumberFormatException e) {
+					throw new IOException(where + "bad coordinates.");
+				}
+				int flag = 0;
+				int i = 4;
+				for ( ; i < words.length && !words[i].startsWith("\"") ; i++) {
+					if (words[i].equals("city")) {
+						flag |= CITY;
+					}
+					else if (words[i].equals("start")) {
+						flag |= START;
+					}
+					else if (words[i].equals("hostile")) {
+						flag |= HOSTILE;
+					}
+					else {
+						throw new IOException(where + "unknown property " + words[i] + ".");
+					}
+				}
+				current = new Place(x, y, (flag & CITY) != 0, (flag & START) != 0);
+				if ((flag & HOSTILE) != 0) {
+					current.setHostile();
+				}
+				int quote = line.indexOf('"');
+				if (quote >= 0) {
+					if (line.lastIndexOf('"') == quote || !line.endsWith("\"")) {
+						throw new IOException(where + "unterminated name.");
+					}
+					current.setName(line.substring(quote + 1, line.length() - 1));
+				}
+				places.put(words[1], current);
+				flags.put(current, flag);
+			}
+			else if (mode(words[0]) >= 0) {
+				if (current == null) {
+					throw new IOException(where + "connections before the first place.");
+				}
+				connections.add(words);
+				connectionSources.add(current);
+				connectionLines.add(lineNumber);
+			}
+			else {
+				throw new IOException(where + "unknown keyword " + words[0] + ".");
+			}
+		}
+
+		// Resolve the connections
+		for (int c = 0 ; c < connections.size() ; c++) {
+			String[] words = connections.get(c);
+			Place from = connectionSources.get(c);
+			for (int i = 1 ; i < words.length ; i++) {
+				Place to = places.get(words[i]);
+				if (to == null) {
+					throw new IOException(name + ":" + connectionLines.get(c) + ": unknown place " + words[i] + ".");
+				}
+				switch (mode(words[0])) {
+				case BoardGraph.LAND:
+					from.setConnectedByLand(to);
+					break;
+				case BoardGraph.SEA:
+					from.setConnectedBySea(to);
+					break;
+				default:
+					from.setConnectedByAir(to);
+				}
+			}
+		}
+		BoardGraph graph = new BoardGraph(places.values());
+		if (graph.getCityCount() > Token.total()) {
+			throw new IOException(name + ": " + graph.getCityCount() + " cities, but there are only " + Token.total()
+					+ " tokens to put on them.");
+		}
+
+		// Write the image
+		int size = 4 * 4 + 3 * 8;
+		byte[][] names = new byte[graph.size()][];
+		for (int i = 0 ; i < graph.size() ; i++) {
+			names[i] = graph.getPlace(i).getName().getBytes(UTF8);
+			size += 2 + 2 + 1 + 2 + names[i].length;
+		}
+		for (int mode = 0 ; mode < MODES.length ; mode++) {
+			size += 4 + 4 * graph.getOffsets(mode).length + 4 * graph.getTargets(mode).length;
+		}
+		ByteBuffer image = ByteBuffer.allocate(size);
+		image.putInt(MAGIC);
+		image.putInt(VERSION);
+		image.putLong(length);
+		image.putLong(modified);
+		image.putLong(checksum);
+		image.putInt(graph.size());
+		for (int i = 0 ; i < graph.size() ; i++) {
+			Place p = graph.getPlace(i);
+			image.putShort((short)p.getX());
+			image.putShort((short)p.getY());
+			image.put((byte)(int)flags.get(p));
+			image.putShort((short)names[i].length);
+			image.put(names[i]);
+		}
+		image.putInt(MODES.length);
+		for (int mode = 0 ; mode < MODES.length ; mode++) {
+			image.putInt(graph.getTargets(mode).length);
+			for (int offset : graph.getOffsets(mode)) {
+				image.putInt(offset);
+			}
+			for (int target : graph.getTargets(mode)) {
+				image.putInt(target);
+			}
+		}
+		image.flip();
+		return image;
+	}
+
+	// Returns the mode of travel corresponding to a keyword, or -1 if there is none
+	private static int mode(String keyword) {
+		for (int mode = 0 ; mode < MODES.length ; mode++) {
+			if (MODES[mode].equals(keyword)) {
+				return mode;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Builds a board graph from a binary image. Every place id in the image is checked before it's used.
+	 *
+	 * @param image		the image
+	 * @param length	the expected size of the text
+	 * @param modified	the expected modification time of the text, or -1 to leave it unchecked
+	 * @param checksum	the expected checksum of the text, or -1 to leave it unchecked
+	 * @return			the board graph
+	 * @throws IllegalArgumentException	if the image is damaged, or made from another version of the text
+	 */
+	public static BoardGraph decode(ByteBuffer image, long length, long modified, long checksum) {
+		ByteBuffer in = image.duplicate();
+		try {
+			if (in.getInt() != MAGIC || in.getInt() != VERSION || in.getLong() != length) {
+				throw new IllegalArgumentException("The board image is out of date.");
+			}
+			long imageModified = in.getLong();
+			long imageChecksum = in.getLong();
+			if (modified != -1 && imageModified != modified || checksum != -1 && imageChecksum != checksum) {
+				throw new IllegalArgumentException("The board image is out of date.");
+			}
+			int count = in.getInt();
+			if (count < 0 || count > in.remaining() / 7) { // A place takes at least 7 bytes
+				throw new IllegalArgumentException("The board image is damaged: it claims " + count + " places.");
+			}
+			Place[] places = new Place[count];
+			for (int i = 0 ; i < places.length ; i++) {
+				int x = in.getShort();
+				int y = in.getShort();
+				int flag = in.get();
+				byte[] name = new byte[in.getShort() & 0xFFFF];
+				in.get(name);
+				places[i] = new Place(x, y, (flag & CITY) != 0, (flag & START) != 0);
+				if ((flag & HOSTILE) != 0) {
+					places[i].setHostile();
+				}
+				places[i].setName(new String(name, UTF8));
+			}
+			if (in.getInt() != MODES.length) {
+				throw new IllegalArgumentException("The board image is damaged: it has the wrong number of modes of travel.");
+			}
+			int[][] offsets = new int[MODES.length][];
+			int[][] targets = new int[MODES.length][];
+			for (int mode = 0 ; mode < MODES.length ; mode++) {
+				int connections = in.getInt();
+				if (connections < 0 || connections > in.remaining() / 4 - (places.length + 1)) {
+					throw new IllegalArgumentException("The board image is damaged: it claims " + connections
+							+ " " + MODES[mode] + " connections.");
+				}
+				targets[mode] = new int[connections];
+				offsets[mode] = new int[places.length + 1];
+				in.asIntBuffer().get(offsets[mode]);
+				in.position(in.position() + 4 * offsets[mode].length);
+				in.asIntBuffer().get(targets[mode]);
+				in.position(in.position() + 4 * targets[mode].length);
+				// The connections of each place must lie within the targets, in order
+				if (offsets[mode][0] != 0 || offsets[mode][places.length] != connections) {
+					throw new IllegalArgumentException("The board image is damaged: the " + MODES[mode]
+							+ " connections don't add up.");
+				}
+				for (int i = 0 ; i < places.length ; i++) {
+					if (offsets[mode][i + 1] < offsets[mode][i]) {
+						throw new IllegalArgumentException("The board image is damaged: the " + MODES[mode]
+								+ " connections of place " + i + " are out of order.");
+					}
+					for (int j = offsets[mode][i] ; j < offsets[mode][i + 1] ; j++) {
+						if (targets[mode][j] < 0 || targets[mode][j] >= places.length) {
+							throw new IllegalArgumentException("The board image is damaged: place " + i + " is connected by "
+									+ MODES[mode] + " to place " + targets[mode][j] + ", but there are only "
+									+ places.length + " places.");
+						}
+					}
+				}
+			}
+			BoardGraph graph = new BoardGraph(places, offsets, targets);
+			if (graph.getCityCount() > Token.total()) {
+				throw new IllegalArgumentException("The board image has more cities than there are tokens.");
+			}
+			return graph;
+		}
+		catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("The board image is damaged: it ends too soon.");
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package star_of_Africa;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * This class holds the connections between all the places on the map. Every place
+ * is given a dense integer id (0..size()-1), and the connections of each travel mode
+ * are stored as one offset array and one target array, so that the neighbors of place
+ * <code>id</code> are <code>targets[offsets[id]]..targets[offsets[id+1]-1]</code>.
+ * Once constructed the graph can not be changed.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class BoardGraph {
+
+	public static final int LAND = 0;
+	public static final int SEA = 1;
+	public static final int AIR = 2;
+	private static final int MODES = 3;
+
+	private final Place[] places;
+	private final int[][] offsets = new int[MODES][];
+	private final int[][] targets = new int[MODES][];
+	private int[] cities; // The place ids of the cities, in id order
+	private int[] cityIndex; // Indexed by place id. -1 for places that aren't cities
+
+	/**
+	 * Constructs the graph from places whose connections have been set with the
+	 * <code>Place.setConnectedBy*</code>-methods. The ids are assigned in the iteration
+	 * order of the collection, and every place is bound to the new graph.
+	 *
+	 * @param placeList	all the places on the map
+	 * @throws IllegalArgumentException	if a place is connected to a place that isn't
+	 * 									part of the collection
+	 */
+	public BoardGraph(Collection<Place> placeList) {
+		places = placeList.toArray(new Place[placeList.size()]);
+		for (int i=0 ; i<places.length ; i++) {
+			places[i].setGraph(this, i);
+		}
+		for (int mode=0 ; mode<MODES ; mode++) {
+			offsets[mode] = new int[places.length + 1];
+			int edges = 0;
+			for (int i=0 ; i<places.length ; i++) {
+				edges += places[i].getPendingConnections(mode).size();
+			}
+			targets[mode] = new int[edges];
+			int e = 0;
+			for (int i=0 ; i<places.length ; i++) {
+				offsets[mode][i] = e;
+				for (Place p : places[i].getPendingConnections(mode)) {
+					if (p.getGraph() != this) {
+						throw new IllegalArgumentException("Place at " + p.getX() + "," + p.getY() + " is not on the board.");
+					}
+					targets[mode][e++] = p.getId();
+				}
+			}
+			offsets[mode][places.length] = e;
+		}
+		for (Place p : places) {
+			p.clearPendingConnections();
+		}
+		indexCities();
+	}
+
+	/**
+	 * Constructs the graph from connections that are already in offset/target form
+	 * (see <code>getOffsets</code> and <code>getTargets</code>). The ids are the indexes
+	 * of the array, and every place is bound to the new graph.
+	 *
+	 * @param places	all the places on the map
+	 * @param offsets	the offsets of each mode of travel
+	 * @param targets	the targets of each mode of travel
+	 * @throws IllegalArgumentException	if the connections don't fit the places
+	 */
+	public BoardGraph(Place[] places, int[][] offsets, int[][] targets) {
+		this.places = places.clone();
+		for (int mode=0 ; mode<MODES ; mode++) {
+			int[] o = offsets[mode];
+			int[] t = targets[mode];
+			if (o.length != places.length + 1 || o[0] != 0 || o[places.length] != t.length) {
+				throw new IllegalArgumentException("Offsets don't match the places.");
+			}
+			for (int i=0 ; i<places.length ; i++) {
+				if (o[i] > o[i + 1]) {
+					throw new IllegalArgumentException("Offsets don't match the places.");
+				}
+			}
+			for (int target : t) {
+				if (target < 0 || target >= places.length) {
+					throw new IllegalArgumentException("Connection to place " + target + ", which is not on the board.");
+				}
+			}
+			this.offsets[mode] = o.clone();
+			this.targets[mode] = t.clone();
+		}
+		for (int i=0 ; i<places.length ; i++) {
+			places[i].setGraph(this, i);
+		}
+		indexCities();
+	}
+
+	// Numbers the cities 0, 1, 2... in id order
+	private void indexCities() {
+		cityIndex = new int[places.length];
+		int count = 0;
+		for (int i=0 ; i<places.length ; i++) {
+			cityIndex[i] = places[i].isCity() ? count++ : -1;
+		}
+		cities = new int[count];
+		for (int i=0 ; i<places.length ; i++) {
+			if (cityIndex[i] >= 0) {
+				cities[cityIndex[i]] = i;
+			}
+		}
+	}
+
+	/**
+	 * @return	the number of places on the board
+	 */
+	public int size() {
+		return places.length;
+	}
+
+	public Place getPlace(int id) {
+		return places[id];
+	}
+
+	/**
+	 * @return	the number of cities on the board
+	 */
+	public int getCityCount() {
+		return cities.length;
+	}
+
+	/**
+	 * @param index	the index of a city, 0 <= index < getCityCount()
+	 * @return		the place id of the city
+	 */
+	public int getCity(int index) {
+		return cities[index];
+	}
+
+	/**
+	 * @param id	the id of a place
+	 * @return		the index of the city (the cities are numbered in the order of their ids),
+	 * 				or -1 if the place isn't a city
+	 */
+	public int getCityIndex(int id) {
+		return cityIndex[id];
+	}
+
+	/**
+	 * @param id	the id of a place
+	 * @param mode	<code>LAND</code>, <code>SEA</code> or <code>AIR</code>
+	 * @return		the number of places connected to the place by the given mode of travel
+	 */
+	public int getDegree(int id, int mode) {
+		return offsets[mode][id + 1] - offsets[mode][id];
+	}
+
+	/**
+	 * @param id	the id of a place
+	 * @param mode	<code>LAND</code>, <code>SEA</code> or <code>AIR</code>
+	 * @param i		the index of the neighbor, 0 <= i < getDegree(id, mode)
+	 * @return		the id of the i:th neighbor
+	 */
+	public int getNeighbor(int id, int mode, int i) {
+		return targets[mode][offsets[mode][id] + i];
+	}
+
+	/**
+	 * Checks whether there is a direct connection from one place to another.
+	 *
+	 * @param from	the id of the source
+	 * @param to	the id of the destination
+	 * @param mode	<code>LAND</code>, <code>SEA</code> or <code>AIR</code>
+	 * @return		<code>true</code> if the places are connected, otherwise <code>false</code>
+	 */
+	public boolean isConnected(int from, int to, int mode) {
+		int[] t = targets[mode];
+		for (int e = offsets[mode][from] ; e < offsets[mode][from + 1] ; e++) {
+			if (t[e] == to) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the offset array of a travel mode. Used together with <code>getTargets</code> in
+	 * loops where even a method call per neighbor is too much. The array must not be modified.
+	 */
+	public int[] getOffsets(int mode) {
+		return offsets[mode];
+	}
+
+	/**
+	 * Returns the target array of a travel mode. The array must not be modified.
+	 */
+	public int[] getTargets(int mode) {
+		return targets[mode];
+	}
+
+	/**
+	 * @return	the places connected to the given place as a list. Meant for the GUI, which
+	 * 			needs the Place objects anyway - the AI should stick to the id-based methods.
+	 */
+	public ArrayList<Place> getConnected(int id, int mode) {
+		ArrayList<Place> list = new ArrayList<Place>(getDegree(id, mode));
+		for (int e = offsets[mode][id] ; e < offsets[mode][id + 1] ; e++) {
+			list.add(places[targets[mode][e]]);
+		}
+		return list;
+	}
+}
@@ -18,9 +18,6 @@
 
 package star_of_Africa;
 
-import java.awt.Image;
-import java.net.URL;
-
 import javax.swing.ImageIcon;
 
 /**
@@ -42,36 +39,25 @@ public enum Dice {
 	 * @return			the resized image of the dice in question.
 	 */
 	ImageIcon getResizedIcon(int height) {
-		Image image;
-		URL imgURL = getClass().getResource("img/one.png");
+		return SpriteCache.getIcon(getImageName(), height);
+	}
+
+	// The image file of the dice
+	private String getImageName() {
 		switch(this) {
 		case ONE:
-			imgURL = getClass().getResource("img/one.png");
-			break;
+			return "img/one.png";
 		case TWO:
-			imgURL = getClass().getResource("img/two.png");
-			break;
+			return "img/two.png";
 		case THREE:
-			imgURL = getClass().getResource("img/three.png");
-			break;
+			return "img/three.png";
 		case FOUR:
-			imgURL = getClass().getResource("img/four.png");
-			break;
+			return "img/four.png";
 		case FIVE:
-			imgURL = getClass().getResource("img/five.png");
-			break;
-		case SIX:
-			imgURL = getClass().getResource("img/six.png");
-			break;
-		}
-		ImageIcon icon = new ImageIcon(imgURL);
-		if (height == 0) {
-			return icon;
+			return "img/five.png";
+		default:
+			return "img/six.png";
 		}
-		image = icon.getImage();
-		image = image.getScaledInstance(-1, height, Image.SCALE_DEFAULT);
-		icon.setImage(image);
-		return icon;
 	}
 	
 }
@@ -0,0 +1,134 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package star_of_Africa;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the distance (in steps) between every pair of places on the map.
+ * The distances are calculated once with a breadth first search from every place,
+ * for three modes of travel: land only, land and sea, and air (where the distance is
+ * the number of flights). Each table is a single byte array indexed by
+ * <code>from * size + to</code>, which keeps all three tables at roughly 150 kB.
+ * For land and for land and sea the table also lists the cities in the order of their
+ * distance from every place.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class DistanceTable {
+
+	public static final int LAND = 0;
+	public static final int LAND_AND_SEA = 1;
+	public static final int AIR = 2;
+	public static final int UNREACHABLE = 255; // Also the largest distance a byte can hold
+
+	private final int size;
+	private final byte[][] distance = new byte[3][];
+	private final byte[][] cityOrder = new byte[2][];
+	private final int cities;
+
+	/**
+	 * Calculates the distance tables for the given board.
+	 *
+	 * @param board	the board
+	 */
+	public DistanceTable(BoardGraph board) {
+		size = board.size();
+		int[] queue = new int[size];
+		distance[LAND] = calculate(board, BoardGraph.LAND, BoardGraph.LAND, queue);
+		distance[LAND_AND_SEA] = calculate(board, BoardGraph.LAND, BoardGraph.SEA, queue);
+		distance[AIR] = calculate(board, BoardGraph.AIR, BoardGraph.AIR, queue);
+		cities = board.getCityCount();
+		cityOrder[LAND] = sort(board, LAND);
+		cityOrder[LAND_AND_SEA] = sort(board, LAND_AND_SEA);
+	}
+
+	// Sorts the cities by their distance from every place, the city with the lower id first if they're equally far
+	private byte[] sort(BoardGraph board, int mode) {
+		byte[] order = new byte[size * cities];
+		int[] key = new int[cities];
+		for (int p = 0 ; p < size ; p++) {
+			for (int c = 0 ; c < cities ; c++) {
+				key[c] = getDistance(p, board.getCity(c), mode) << 8 | c;
+			}
+			Arrays.sort(key);
+			for (int c = 0 ; c < cities ; c++) {
+				order[p * cities + c] = (byte)key[c];
+			}
+		}
+		return order;
+	}
+
+	// Runs a breadth first search from every place, following the connections of the modes firstMode..lastMode
+	private byte[] calculate(BoardGraph board, int firstMode, int lastMode, int[] queue) {
+		byte[] table = new byte[size * size];
+		Arrays.fill(table, (byte)UNREACHABLE);
+		for (int source = 0 ; source < size ; source++) {
+			int row = source * size;
+			int head = 0;
+			int tail = 0;
+			table[row + source] = 0;
+			queue[tail++] = source;
+			while (head < tail) {
+				int p = queue[head++];
+				int d = (table[row + p] & 0xFF) + 1;
+				if (d >= UNREACHABLE) {
+					continue;
+				}
+				for (int mode = firstMode ; mode <= lastMode ; mode++) {
+					int[] offsets = board.getOffsets(mode);
+					int[] targets = board.getTargets(mode);
+					for (int e = offsets[p] ; e < offsets[p + 1] ; e++) {
+						int q = targets[e];
+						if ((table[row + q] & 0xFF) == UNREACHABLE) {
+							table[row + q] = (byte)d;
+							queue[tail++] = q;
+						}
+					}
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the distance between two places.
+	 *
+	 * @param from	the id of the source
+	 * @param to	the id of the destination
+	 * @param mode	<code>LAND</code>, <code>LAND_AND_SEA</code> or <code>AIR</code>
+	 * @return		the least number of steps (or flights) required, or <code>UNREACHABLE</code>
+	 * 				if the destination can't be reached using the given mode of travel
+	 */
+	public int getDistance(int from, int to, int mode) {
+		return distance[mode][from * size + to] & 0xFF;
+	}
+
+	/**
+	 * Returns the cities in the order of their distance from every place. The city indexes
+	 * (see <code>BoardGraph.getCityIndex</code>) of place <code>p</code> are at
+	 * <code>p * getCityCount()</code> and on, the nearest first. The array must not be modified.
+	 *
+	 * @param mode	<code>LAND</code> or <code>LAND_AND_SEA</code>
+	 */
+	public byte[] getCityOrder(int mode) {
+		return cityOrder[mode];
+	}
+}
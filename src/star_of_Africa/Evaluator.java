@@ -0,0 +1,153 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+/**
+ * Estimates the chances of the players to win from a position, without looking ahead.
+ * The search based AIs use it to value the positions where they stop searching.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class Evaluator {
+
+	// Parameters of the estimate
+	private static final double TURNS_PER_TOKEN = 3.0; // How often a player searching for the star opens a token
+	private static final double TURNS_WAITING_FOR_ROLL = 2.0; // Opening a token without money takes a roll of 4+ on a turn of its own
+	private static final double STAR_WINS = 0.8; // The chance that the player who finds the star wins
+	private static final double TURNS_PER_POUND = 1 / 500.0;
+	private static final double TEMPERATURE = 4.0; // How much a lead of one turn is worth
+	private static final double NEVER = 1000.0;
+	private static final int HORSESHOES = 5;
+
+	private final BoardGraph board;
+	private final TurnTable turns;
+	private final double[] homeTurns; // Indexed by place id. Turns home without spending money
+
+	public Evaluator(RulesEngine engine) {
+		board = engine.getBoard();
+		turns = engine.getTurnTable();
+		homeTurns = new double[board.size()];
+		for (int p = 0 ; p < board.size() ; p++) {
+			homeTurns[p] = turns.getTurns(p, TurnTable.HOME, TurnTable.FREE);
+		}
+	}
+
+	/**
+	 * Estimates the chance of a player winning the game.
+	 * </p>
+	 * Until the star is found, the players open tokens one after the other, and the star is
+	 * equally likely to be any of them. A player who can open his next token sooner than the
+	 * others will open more of the remaining tokens, so his share of them is
+	 * <code>1/n + (average delay - his delay) / (turns per token * tokens left)</code>. Whoever
+	 * finds the star wins most of the time.
+	 * </p>
+	 * Once the star has been found every player is given an estimate of the turns he needs to win
+	 * (the way home, or finding a horseshoe and then the way home), and the chances are a softmax
+	 * of those.
+	 * 
+	 * @param s			the state of the game
+	 * @param player	the player
+	 * @return			the chance, 0..1
+	 */
+	public double winChance(GameState s, int player) {
+		if (s.isGameOver()) {
+			return s.getWinner() == player ? 1 : 0;
+		}
+		if (s.isStranded(player)) {
+			return 0;
+		}
+		int remaining = Long.bitCount(s.getTokens());
+		if (!s.starHasBeenFound()) {
+			int players = 0;
+			double sum = 0;
+			for (int i = 0 ; i < s.getPlayerCount() ; i++) {
+				if (!s.isStranded(i)) {
+					players++;
+					sum += tokenDelay(s, i);
+				}
+			}
+			if (players == 1) {
+				return 1;
+			}
+			double share = 1.0 / players + (sum / players - tokenDelay(s, player)) / (TURNS_PER_TOKEN * remaining);
+			share = Math.max(0, Math.min(1, share));
+			return share * STAR_WINS + (1 - share) * (1 - STAR_WINS) / (players - 1);
+		}
+		double race = horseshoeTurns(s, remaining);
+		double mine = turnsToWin(s, player, race);
+		if (mine >= NEVER) {
+			return 0;
+		}
+		double sum = 0;
+		for (int i = 0 ; i < s.getPlayerCount() ; i++) {
+			double t = i == player ? mine : turnsToWin(s, i, race);
+			if (t < NEVER) {
+				sum += Math.exp((mine - t) / TEMPERATURE);
+			}
+		}
+		return 1 / sum;
+	}
+
+	// Estimates the turns until a player can open his next token
+	private double tokenDelay(GameState s, int player) {
+		int here = s.getPlace(player);
+		boolean broke = s.getMoney(player) < RulesEngine.TOKEN_PRICE;
+		double delay = -s.getMoney(player) * TURNS_PER_POUND;
+		if (s.hasToken(here) && s.getLockedDestination(player) < 0) {
+			// A token can only be bought right after moving onto it, so now it takes a roll
+			return delay + s.getTurnsLeftAsSlave(player) + TURNS_WAITING_FOR_ROLL;
+		}
+		double nearest = NEVER;
+		for (long tokens = s.getTokens() ; tokens != 0 ; tokens &= tokens - 1) {
+			nearest = Math.min(nearest, turns.getTurns(s, player, board.getCity(Long.numberOfTrailingZeros(tokens)), TurnTable.FREE));
+		}
+		// Without money the roll for the token can only be made on the turn after getting there
+		return delay + nearest + (broke ? TURNS_WAITING_FOR_ROLL : 0);
+	}
+
+	// The turns it takes a player without the star to find a horseshoe and get home, not counting the way to his next token.
+	// NEVER if there are no horseshoes left.
+	private double horseshoeTurns(GameState s, int remaining) {
+		int horseshoes = HORSESHOES - s.getHorseshoesFound();
+		if (horseshoes <= 0 || remaining == 0) {
+			return NEVER;
+		}
+		double home = 0;
+		for (long tokens = s.getTokens() ; tokens != 0 ; tokens &= tokens - 1) {
+			home += homeTurns[board.getCity(Long.numberOfTrailingZeros(tokens))];
+		}
+		return ((remaining + 1.0) / (horseshoes + 1) - 1) * TURNS_PER_TOKEN + home / remaining;
+	}
+
+	// Estimates the turns a player needs to win, once the star has been found
+	private double turnsToWin(GameState s, int player, double race) {
+		if (s.isStranded(player)) {
+			return NEVER;
+		}
+		if (s.hasFoundTheStar(player)) {
+			return Math.min(NEVER, turns.getHomeTurns(s, player));
+		}
+		if (race >= NEVER) {
+			return NEVER;
+		}
+		return tokenDelay(s, player) + race;
+	}
+}
@@ -0,0 +1,485 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * An AI that looks ahead. It searches the game tree on copies of the GameState: the
+ * player's own decisions are maximized, the diceroll of every turn and the contents of
+ * every token that gets opened are chance nodes, and the other players are assumed to
+ * play greedily (see <code>opponentMove</code>). The AI never peeks under a token: it counts
+ * how many of each kind are left from the tokens already opened, as every player can, and a
+ * token opened in the search takes one off the count of the kind it turns out to be. The
+ * counts are part of the key of a position, since two positions may only differ by them.
+ * </p>
+ * The depth is counted in turns, the player's own included. The search deepens one turn
+ * at a time until the maximum depth or the time budget is reached, and the decision of the
+ * deepest completed search is used. Until the first search is completed, the decision is
+ * the one the HeuristicStrategy would make. The search looks at the clock every few nodes,
+ * and doesn't start a depth it doesn't expect to finish, but the time budget is a target rather
+ * than a promise: the thread may still lose the processor (to garbage collection, say) near the
+ * end, so callers that need a limit measure it themselves. The moves available at the root are searched in
+ * parallel. Positions at the end of the search are valued by an Evaluator, as an
+ * estimate of the player's chance of winning. The value of every position where a turn
+ * starts is kept in a TranspositionTable shared by the threads, so a position reached
+ * again through another order of the dicerolls isn't searched again, and neither are the
+ * positions of the previous depth or decision.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class ExpectimaxStrategy implements AIStrategy {
+
+	public static final int DEFAULT_DEPTH = 4;
+	public static final long DEFAULT_TIME = 1000; // Milliseconds per decision
+	private static final int CHECK_INTERVAL = 16; // Nodes between looks at the clock
+	private static final int TABLE_BITS = 18; // The transposition table takes 8 MB
+	private static final Timeout TIMEOUT = new Timeout();
+	private static final Token[] TOKENS = Token.values();
+	private static final long[] COUNT_KEYS = new long[TOKENS.length]; // Hash of one token of each kind left
+	static {
+		GameRandom random = new GameRandom(0x5EA7C4L);
+		for (int t = 0 ; t < COUNT_KEYS.length ; t++) {
+			COUNT_KEYS[t] = random.nextLong();
+		}
+	}
+
+	private final RulesEngine engine;
+	private final BoardGraph board;
+	private final SeaLanes lanes;
+	private final Evaluator evaluator;
+	private final HeuristicStrategy heuristic; // The decision when there's no time to search
+	private final int maxDepth;
+	private final long timeBudget;
+	private final ForkJoinPool pool; // null when searching in the calling thread only
+	private final Searcher searcher = new Searcher();
+	private final TranspositionTable table = new TranspositionTable(TABLE_BITS);
+	private volatile long deadline;
+	private long plannedState; // Hash of the position the last decision leads to
+	private boolean plannedBuy; // Does the player buy the token there?
+	private boolean planned; // Did the last decision come from a search?
+
+	/**
+	 * Constructs a strategy with the default depth and time budget that uses all processors.
+	 */
+	public ExpectimaxStrategy(RulesEngine engine, DistanceTable distances) {
+		this(engine, distances, DEFAULT_DEPTH, DEFAULT_TIME, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs a strategy.
+	 * 
+	 * @param engine		the rules
+	 * @param distances		the distance tables of the board
+	 * @param maxDepth		the maximum depth of the search in turns, at least 1
+	 * @param timeBudget	the time a decision may take in milliseconds, or 0 for no limit (the search
+	 * 						always finishes depth 1, though)
+	 * @param threads		the number of threads searching the moves at the root
+	 */
+	public ExpectimaxStrategy(RulesEngine engine, DistanceTable distances, int maxDepth, long timeBudget, int threads) {
+		this.engine = engine;
+		this.maxDepth = Math.max(1, maxDepth);
+		this.timeBudget = timeBudget;
+		board = engine.getBoard();
+		lanes = engine.getSeaLanes();
+		pool = threads > 1 ? new ForkJoinPool(threads) : null;
+		evaluator = new Evaluator(engine);
+		heuristic = new HeuristicStrategy(engine, distances);
+	}
+
+	public AIMove chooseMove(GameState state, int dice) {
+		GameState root = new GameState(state);
+		AIMove[] actions = engine.listMoves(root, dice);
+		int best = -1;
+		boolean[] buy = new boolean[actions.length];
+		long start = System.currentTimeMillis();
+		deadline = timeBudget <= 0 ? Long.MAX_VALUE : start + timeBudget;
+		table.newSearch();
+		for (int depth = 1 ; depth <= maxDepth ; depth++) {
+			double[] value = new double[actions.length];
+			boolean[] buys = new boolean[actions.length];
+			long depthStart = System.currentTimeMillis();
+			if (!searchRoot(root, actions, dice, depth, value, buys)) {
+				break;
+			}
+			best = 0;
+			for (int i = 1 ; i < actions.length ; i++) {
+				if (value[i] > value[best]) {
+					best = i;
+				}
+			}
+			buy = buys;
+			// The next depth takes several times longer, so don't start what can't be finished
+			long now = System.currentTimeMillis();
+			if (timeBudget > 0 && now + 4 * (now - depthStart) > start + timeBudget) {
+				break;
+			}
+		}
+		planned = best >= 0;
+		if (!planned) {
+			return heuristic.chooseMove(root, dice);
+		}
+		GameState after = new GameState(root);
+		apply(after, actions[best]);
+		plannedState = after.hash();
+		plannedBuy = buy[best];
+		return actions[best];
+	}
+
+	/**
+	 * @return	the transposition table, for its statistics
+	 */
+	public TranspositionTable getTranspositionTable() {
+		return table;
+	}
+
+	public boolean wantsToken(GameState state) {
+		if (!engine.canBuyToken(state)) {
+			return false;
+		}
+		if (planned && state.hash() == plannedState) {
+			return plannedBuy;
+		}
+		// Not a position the search has seen (the player has been moved by a ship), so compare the options now
+		deadline = timeBudget <= 0 ? Long.MAX_VALUE : System.currentTimeMillis() + timeBudget;
+		searcher.reset(state);
+		int depth = Math.min(2, maxDepth);
+		try {
+			return searcher.tokenValue(state, true, depth) > searcher.endTurnValue(new GameState(state), depth);
+		}
+		catch (Timeout t) {
+			return heuristic.wantsToken(state);
+		}
+	}
+
+	// Searches all the moves at the root. Returns false if the time ran out.
+	private boolean searchRoot(GameState root, AIMove[] actions, int dice, int depth, double[] value, boolean[] buy) {
+		if (pool == null || actions.length == 1) {
+			try {
+				searcher.reset(root);
+				for (int i = 0 ; i < actions.length ; i++) {
+					value[i] = searcher.rootValue(root, actions[i], dice, depth, buy, i);
+				}
+				return true;
+			}
+			catch (Timeout t) {
+				return false;
+			}
+		}
+		List<Callable<Double>> tasks = new ArrayList<Callable<Double>>();
+		for (int i = 0 ; i < actions.length ; i++) {
+			tasks.add(new RootTask(root, actions[i], dice, depth, buy, i));
+		}
+		List<Future<Double>> results = pool.invokeAll(tasks);
+		try {
+			for (int i = 0 ; i < actions.length ; i++) {
+				value[i] = results.get(i).get();
+				if (Double.isNaN(value[i])) {
+					return false;
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		return true;
+	}
+
+	// Makes a move the same way as Simulator.playTurn, except for opening tokens. Returns true if the player may buy a token afterwards.
+	private boolean apply(GameState s, AIMove move) {
+		boolean moved = !s.hasFoundTheStar(s.getTurn());
+		return engine.makeMove(s, move) && moved && !s.isGameOver() && engine.canBuyToken(s);
+	}
+
+	/**
+	 * Decides what an opponent does in the search. Opponents open tokens with a free roll when
+	 * they can, and otherwise make the move that raises their own estimated chance of winning
+	 * the most, without looking any further.
+	 */
+	private AIMove opponentMove(GameState s, int dice, GameState scratch) {
+		int turn = s.getTurn();
+		AIMove[] options = engine.listMoves(s, dice);
+		if (options[0].getType() == AIMove.ROLL_FOR_TOKEN && dice >= RulesEngine.TOKEN_ROLL && !s.hasFoundTheStar(turn)) {
+			return options[0];
+		}
+		AIMove best = options[0];
+		double bestValue = -1;
+		for (AIMove move : options) {
+			if (move.getType() == AIMove.ROLL_FOR_TOKEN) {
+				continue;
+			}
+			scratch.copyFrom(s);
+			apply(scratch, move);
+			double value = evaluator.winChance(scratch, turn);
+			if (value > bestValue) {
+				bestValue = value;
+				best = move;
+			}
+		}
+		return best;
+	}
+
+	// Opponents buy a token by the same rule as the HeuristicStrategy
+	private boolean opponentBuys(GameState s) {
+		return !engine.playerOnIsland(s, s.getTurn()) || s.getMoney(s.getTurn()) >= 200;
+	}
+
+	/**
+	 * The search itself. Every thread needs one of its own, since it keeps a stack of states
+	 * that are reused instead of allocating new ones for every node.
+	 */
+	private class Searcher {
+
+		private final ArrayList<GameState> stack = new ArrayList<GameState>();
+		private int level;
+		private int player; // The player the search is for
+		private long perspective; // Added to the keys of the table, since the values depend on the player
+		private final int[] left = new int[TOKENS.length]; // The unopened tokens of each kind, by the opened ones
+		private long leftKey; // Added to the keys of the table, since the values depend on the counts too
+		private int nodes;
+
+		// Starts a search for the player in turn, counting the tokens left from those opened
+		void reset(GameState root) {
+			player = root.getTurn();
+			perspective = (player + 1) * 0xC2B2AE3D27D4EB4FL;
+			level = 0;
+			leftKey = 0;
+			for (int t = 0 ; t < TOKENS.length ; t++) {
+				left[t] = TOKENS[t].count();
+				leftKey += left[t] * COUNT_KEYS[t];
+			}
+			for (int city = 0 ; city < board.getCityCount() ; city++) {
+				Token opened = root.getOpenedToken(board.getCity(city));
+				if (opened != null) {
+					left[opened.ordinal()]--;
+					leftKey -= COUNT_KEYS[opened.ordinal()];
+				}
+			}
+		}
+
+		// Returns a copy of the given state from the stack. Must be followed by pop() when the copy is no longer needed.
+		private GameState push(GameState s) {
+			if (level == stack.size()) {
+				stack.add(new GameState(s));
+			}
+			else {
+				stack.get(level).copyFrom(s);
+			}
+			if (++nodes % CHECK_INTERVAL == 0 && System.currentTimeMillis() > deadline) {
+				throw TIMEOUT;
+			}
+			return stack.get(level++);
+		}
+
+		private void pop() {
+			level--;
+		}
+
+		double rootValue(GameState root, AIMove move, int dice, int depth, boolean[] buy, int index) {
+			level = 0;
+			GameState s = push(root);
+			double value = moveValue(s, move, dice, depth, buy, index);
+			pop();
+			return value;
+		}
+
+		// The value of a turn that is about to start
+		private double turnValue(GameState s, int depth) {
+			if (s.isGameOver()) {
+				return evaluator.winChance(s, player);
+			}
+			long key = s.hash() ^ perspective ^ leftKey;
+			double value = table.get(key, depth);
+			if (!Double.isNaN(value)) {
+				return value;
+			}
+			if (depth == 0) {
+				value = evaluator.winChance(s, player);
+			}
+			else if (s.getTurnsLeftAsSlave(s.getTurn()) > 0) { // The dice don't matter
+				value = rollValue(s, 1, depth);
+			}
+			else {
+				double sum = 0;
+				for (int dice = 1 ; dice <= MoveTable.MAX_DICE ; dice++) {
+					sum += rollValue(s, dice, depth);
+				}
+				value = sum / MoveTable.MAX_DICE;
+			}
+			table.put(key, depth, value);
+			return value;
+		}
+
+		// The value of a turn once the dice have been rolled
+		private double rollValue(GameState state, int dice, int depth) {
+			GameState s = push(state);
+			int turn = s.getTurn();
+			double value;
+			if (engine.serveSlaveTurn(s) || !engine.escape(s, dice)) {
+				value = endTurnValue(s, depth);
+			}
+			else if (s.getLockedDestination(turn) >= 0) {
+				int here = s.getPlace(turn);
+				int lane = lanes.find(here, s.getLockedDestination(turn));
+				engine.move(s, lanes.getTile(here, lane, Math.min(engine.getSteps(s, dice), lanes.getSteps(here, lane))));
+				value = afterMoveValue(s, true, depth);
+			}
+			else if (turn == player) {
+				value = -1;
+				for (AIMove move : engine.listMoves(s, dice)) {
+					value = Math.max(value, moveValue(s, move, dice, depth, null, 0));
+				}
+			}
+			else {
+				GameState scratch = push(s);
+				AIMove move = opponentMove(s, dice, scratch);
+				pop();
+				value = moveValue(s, move, dice, depth, null, 0);
+			}
+			pop();
+			return value;
+		}
+
+		// The value of a move. If buy isn't null, buy[index] tells whether the token should be bought after the move.
+		private double moveValue(GameState state, AIMove move, int dice, int depth, boolean[] buy, int index) {
+			GameState s = push(state);
+			double value;
+			if (move.getType() == AIMove.ROLL_FOR_TOKEN) {
+				value = dice >= RulesEngine.TOKEN_ROLL ? tokenValue(s, false, depth) : endTurnValue(s, depth);
+			}
+			else {
+				boolean canBuy = apply(s, move);
+				value = canBuy ? buyValue(s, depth, buy, index) : afterMoveValue(s, false, depth);
+			}
+			pop();
+			return value;
+		}
+
+		// The value after a move, when a token may be bought
+		private double afterMoveValue(GameState s, boolean moved, int depth) {
+			if (moved && !s.isGameOver() && engine.canBuyToken(s)) {
+				return buyValue(s, depth, null, 0);
+			}
+			return endTurnValue(s, depth);
+		}
+
+		private double buyValue(GameState s, int depth, boolean[] buy, int index) {
+			if (s.getTurn() != player) {
+				return opponentBuys(s) ? tokenValue(s, true, depth) : endTurnValue(s, depth);
+			}
+			double bought = tokenValue(s, true, depth);
+			double passed = endTurnValue(s, depth); // Changes s, so it comes last
+			if (buy != null) {
+				buy[index] = bought > passed;
+			}
+			return Math.max(bought, passed);
+		}
+
+		// The value of opening the token where the player in turn is, over every kind that may be left.
+		// The token is put there as each kind in turn, and taken off the count of that kind for the rest of the search.
+		double tokenValue(GameState state, boolean pay, int depth) {
+			int here = state.getPlace(state.getTurn());
+			int total = 0;
+			for (int count : left) {
+				total += count;
+			}
+			double sum = 0;
+			for (int t = 0 ; t < left.length ; t++) {
+				int count = left[t];
+				if (count > 0) {
+					GameState s = push(state);
+					s.setToken(here, TOKENS[t]);
+					left[t]--;
+					leftKey -= COUNT_KEYS[t];
+					if (pay) {
+						engine.buyToken(s);
+					}
+					else {
+						engine.openToken(s);
+					}
+					sum += count * endTurnValue(s, depth);
+					left[t]++;
+					leftKey += COUNT_KEYS[t];
+					pop();
+				}
+			}
+			return total == 0 ? endTurnValue(new GameState(state), depth) : sum / total;
+		}
+
+		// Ends the turn of the given state (changing it), and returns the value of the rest of the game
+		double endTurnValue(GameState s, int depth) {
+			if (!s.isGameOver()) {
+				engine.endTurn(s);
+			}
+			return turnValue(s, depth - 1);
+		}
+	}
+
+	// Searches one move at the root in a thread of the pool. Returns NaN if the time ran out.
+	private class RootTask implements Callable<Double> {
+
+		private final GameState root;
+		private final AIMove move;
+		private final int dice;
+		private final int depth;
+		private final boolean[] buy;
+		private final int index;
+
+		RootTask(GameState root, AIMove move, int dice, int depth, boolean[] buy, int index) {
+			this.root = root;
+			this.move = move;
+			this.dice = dice;
+			this.depth = depth;
+			this.buy = buy;
+			this.index = index;
+		}
+
+		public Double call() {
+			Searcher s = new Searcher();
+			s.reset(root);
+			try {
+				return s.rootValue(root, move, dice, depth, buy, index);
+			}
+			catch (Timeout t) {
+				return Double.NaN;
+			}
+		}
+	}
+
+	// Thrown to abandon a search that has run out of time
+	private static class Timeout extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		Timeout() {
+			super(null, null, false, false);
+		}
+	}
+}
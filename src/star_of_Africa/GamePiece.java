@@ -18,9 +18,6 @@
 
 package star_of_Africa;
 
-import java.awt.Image;
-import java.net.URL;
-
 import javax.swing.ImageIcon;
 
 /**
@@ -42,32 +39,33 @@ public enum GamePiece {
 	 * @return			the resized image of the gamepiece in question.
 	 */
 	ImageIcon getResizedIcon(int height) {
-		Image image;
-		URL imgURL = getClass().getResource("img/gp_red.png");
+		return SpriteCache.getIcon(getImageName(), height);
+	}
+
+	/**
+	 * Returns an image of the gamepiece at the requested size, which is scaled roughly
+	 * unless it has been scaled properly to that size before.
+	 * 
+	 * @param height	the desired height of the image in pixels
+	 * @return			the image
+	 */
+	ImageIcon getRoughIcon(int height) {
+		return SpriteCache.getRoughIcon(getImageName(), height);
+	}
+
+	// The image file of the gamepiece
+	private String getImageName() {
 		switch(this) {
 		case RED:
-			imgURL = getClass().getResource("img/gp_red.png");
-			break;
+			return "img/gp_red.png";
 		case GREEN:
-			imgURL = getClass().getResource("img/gp_green.png");
-			break;
+			return "img/gp_green.png";
 		case BLUE:
-			imgURL = getClass().getResource("img/gp_blue.png");
-			break;
+			return "img/gp_blue.png";
 		case YELLOW:
-			imgURL = getClass().getResource("img/gp_yellow.png");
-			break;
-		case LILAC:
-			imgURL = getClass().getResource("img/gp_lilac.png");
-			break;
-		}
-		ImageIcon icon= new ImageIcon(imgURL);
-		if (height == 0) {
-			return icon;
+			return "img/gp_yellow.png";
+		default:
+			return "img/gp_lilac.png";
 		}
-		image = icon.getImage();
-		image = image.getScaledInstance(-1, height, Image.SCALE_DEFAULT);
-		icon.setImage(image);
-		return icon;
 	}
 }
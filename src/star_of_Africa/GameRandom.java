@@ -0,0 +1,108 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.SplittableRandom;
+
+/**
+ * The source of all randomness in a game: dice, the shuffling of the tokens and the
+ * order of the players. Every game has its own generator, so a game can be replayed
+ * from its seed, and games played in parallel don't compete for a shared generator.
+ * A generator must not be used by several threads at the same time - use
+ * <code>split()</code> to give each thread one of its own.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class GameRandom {
+
+	private final SplittableRandom random;
+
+	/**
+	 * Constructs a generator with a seed of its own.
+	 */
+	public GameRandom() {
+		this(new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Constructs a generator that will always produce the same sequence for the same seed.
+	 * 
+	 * @param seed	the seed
+	 */
+	public GameRandom(long seed) {
+		random = new SplittableRandom(seed);
+	}
+
+	private GameRandom(SplittableRandom random) {
+		this.random = random;
+	}
+
+	/**
+	 * Splits off a new generator, which is statistically independent of this one. The
+	 * sequence of the new generator is determined by the seed of this one and the number
+	 * of values drawn from it so far.
+	 * 
+	 * @return	the new generator
+	 */
+	public GameRandom split() {
+		return new GameRandom(random.split());
+	}
+
+	/**
+	 * @return	a value between 1 and 6
+	 */
+	public int rollDice() {
+		return 1 + random.nextInt(6);
+	}
+
+	/**
+	 * @param bound	the upper bound (exclusive). Must be positive.
+	 * @return		a value between 0 (inclusive) and the bound (exclusive)
+	 */
+	public int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+
+	public boolean nextBoolean() {
+		return random.nextBoolean();
+	}
+
+	/**
+	 * @return	a random long, for example the seed for a new generator
+	 */
+	public long nextLong() {
+		return random.nextLong();
+	}
+
+	/**
+	 * Shuffles an array so that every order is equally likely (Fisher-Yates).
+	 * 
+	 * @param array	the array to be shuffled
+	 */
+	public <T> void shuffle(T[] array) {
+		for (int i = array.length - 1 ; i > 0 ; i--) {
+			int j = random.nextInt(i + 1);
+			T temp = array[i];
+			array[i] = array[j];
+			array[j] = temp;
+		}
+	}
+}
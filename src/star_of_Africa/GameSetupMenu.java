@@ -81,6 +81,7 @@ public class GameSetupMenu implements ActionListener {
 	private JLabel label4 = new JLabel(bundle.getString("name")+":");
 	private JTextField playerName = new JTextField(bundle.getString("player")+" 1", 8);
 	private Player[] player = new Player[6]; // Max 5 players (there is no player[0])
+	private GameRandom random = new GameRandom();
 	private int playerNum = 1;
 	private int height;
 	private boolean[] piece = new boolean[5]; // Keeps track on whether a gampiece is still available
@@ -260,7 +261,7 @@ public class GameSetupMenu implements ActionListener {
 				// AI picks a random gamepiece (of those that are left)
 				boolean found = false;
 				while (!found) {
-					rand = 1 + (int)(Math.random() * 5);
+					rand = 1 + random.nextInt(5);
 					switch(rand) {
 					case 1:
 						if (piece[0]) {
@@ -316,7 +317,7 @@ public class GameSetupMenu implements ActionListener {
 				}
 				boolean start = (tan < cai);
 				if (tan == cai) {
-					start = (Math.random() < 0.5);
+					start = random.nextBoolean();
 				}
 				player[playerNum] = new Player(false, start, gp, playerName.getText());
 			}
@@ -339,19 +340,10 @@ public class GameSetupMenu implements ActionListener {
 			addPlayer.setEnabled(false);
 			// First take the players and put them into a new table in random order
 			Player[] temp = new Player[playerNum-1];
-			boolean isOkay;
 			for (int i=0; i<playerNum-1; i++) {
-				do {
-					isOkay = true;
-					rand = 1 + (int)(Math.random() * (playerNum-1));
-					for (int j=0; j<i; j++) {
-						if (temp[j].equals(player[rand])) {
-							isOkay = false;
-						}
-					}
-				} while(!isOkay);
-				temp[i] = player[rand];
+				temp[i] = player[i+1];
 			}
+			random.shuffle(temp);
 			new PlayingField(temp, height);
 			frame.dispose();
 		}
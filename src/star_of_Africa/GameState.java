@@ -0,0 +1,398 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.Arrays;
+
+/**
+ * This class holds everything that changes during a game: where the players are, how
+ * much money they have, which tokens are left and so on. It doesn't know anything about
+ * the rules - those are applied by the RulesEngine - and it doesn't depend on the GUI,
+ * so that games can be played without one. Places and players are referred to by their
+ * index (the place id of the BoardGraph, and the seat number respectively).
+ * </p>
+ * The AI copies and compares states by the million, so the state is kept in a few
+ * primitives: the unopened tokens are a bitmask over the cities (numbered by
+ * <code>BoardGraph.getCityIndex</code>), the token types are one byte per city, and each
+ * player is packed into a long: the place id (16 bits), status bits (24 bits) and the amount
+ * of money (a signed 24-bit number). The token types only
+ * change while the tokens are set up, so copies share them, and <code>setToken</code>
+ * replaces the array instead of changing it.
+ * </p>
+ * The hash of the state is a Zobrist hash: every unopened token (city and type), every
+ * player (his packed long) and the rest of the scalars contribute a pseudorandom key, and
+ * the keys are combined with XOR. The keys of the tokens and the players are kept up to
+ * date by the setters, so hashing a state costs next to nothing, which the transposition
+ * table of the search relies on.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.1
+ */
+public class GameState {
+
+	private static final Token[] TOKENS = Token.values();
+	// The fields of a player
+	private static final long PLACE = 0xFFFFL;
+	private static final int LOCKED_SHIFT = 16;
+	private static final long LOCKED_DESTINATION = 0xFFFFL << LOCKED_SHIFT; // Place id + 1, 0 when not seabound
+	private static final long BOARDED_NO_MONEY = 1L << 32;
+	private static final long HAS_FOUND_THE_STAR = 1L << 33;
+	private static final long CAPTURED = 1L << 34;
+	private static final long STRANDED = 1L << 35;
+	private static final long TANGIER = 1L << 36;
+	private static final int SLAVE_SHIFT = 37;
+	private static final long SLAVE_TURNS = 7L << SLAVE_SHIFT;
+	private static final int MONEY_SHIFT = 40;
+	private static final int MAX_MONEY = (1 << 23) - 1;
+	// Flags of the game
+	private static final int STAR_HAS_BEEN_FOUND = 1;
+	private static final int CAPETOWN_HAS_BEEN_VISITED = 2;
+	private static final int GAME_OVER = 4;
+
+	private final BoardGraph board;
+	private long tokens; // Bit i is set if city i still has an unopened token
+	private byte[] tokenType; // Indexed by city. Shared between copies, never modified
+	private long tokenHash; // Hash of the types of the unopened tokens, kept up to date by setToken
+	private final long[] player;
+	private long playerHash; // Hash of the players, kept up to date by set
+	private int turn = 0;
+	private int horseshoesFound = 0;
+	private int flags = 0;
+	private int winner = -1;
+
+	/**
+	 * Constructs the state of a new game, without any tokens.
+	 *
+	 * @param board			the board the game is played on
+	 * @param tangier		for each player, does he start at Tangier? <code>false</code> == Cairo.
+	 * @param startPlaces	the starting places of each player
+	 * @throws IllegalArgumentException	if the board has more than 64 cities, or more than
+	 * 									<code>Short.MAX_VALUE</code> places
+	 */
+	public GameState(BoardGraph board, boolean[] tangier, int[] startPlaces) {
+		if (board.getCityCount() > 64 || board.size() > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("The board is too large.");
+		}
+		this.board = board;
+		int players = tangier.length;
+		tokenType = new byte[board.getCityCount()];
+		player = new long[players];
+		for (int i = 0; i < players; i++) {
+			player[i] = startPlaces[i] | (long)300 << MONEY_SHIFT;
+			if (tangier[i]) {
+				player[i] |= TANGIER;
+			}
+			playerHash ^= playerKey(i, player[i]);
+		}
+	}
+
+	/**
+	 * Constructs a copy of another state. The copy shares nothing mutable with the original.
+	 *
+	 * @param other	the state to be copied
+	 */
+	public GameState(GameState other) {
+		board = other.board;
+		player = other.player.clone();
+		copyScalars(other);
+	}
+
+	/**
+	 * Makes this state equal to another one without allocating anything, which is what
+	 * a search should use to restore a state it's exploring from.
+	 *
+	 * @param other	a state of a game on the same board with the same number of players
+	 */
+	public void copyFrom(GameState other) {
+		if (other.board != board || other.player.length != player.length) {
+			throw new IllegalArgumentException("The states are not of the same kind of game.");
+		}
+		System.arraycopy(other.player, 0, player, 0, player.length);
+		copyScalars(other);
+	}
+
+	private void copyScalars(GameState other) {
+		tokens = other.tokens;
+		tokenType = other.tokenType;
+		tokenHash = other.tokenHash;
+		playerHash = other.playerHash;
+		turn = other.turn;
+		horseshoesFound = other.horseshoesFound;
+		flags = other.flags;
+		winner = other.winner;
+	}
+
+	/**
+	 * Returns a 64-bit hash of the state. Equal states have equal hashes, and different
+	 * states practically never do.
+	 */
+	public long hash() {
+		return tokenHash ^ playerHash ^ mix(turn | (long)horseshoesFound << 8 | (long)flags << 16 | (long)(winner + 1) << 24);
+	}
+
+	// The finalizer of the SplitMix64 generator. Spreads every input bit over the whole result.
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	// The contribution of a token to tokenHash
+	private static long tokenKey(int city, int type) {
+		return mix((city << 3 | type) + 0x9E3779B97F4A7C15L);
+	}
+
+	// The contribution of a player to playerHash
+	private static long playerKey(int player, long value) {
+		return mix(value + (player + 2) * 0x9E3779B97F4A7C15L);
+	}
+
+	// Changes the packed long of a player
+	private void set(int player, long value) {
+		playerHash ^= playerKey(player, this.player[player]) ^ playerKey(player, value);
+		this.player[player] = value;
+	}
+
+	@Override
+	public int hashCode() {
+		long h = hash();
+		return (int)(h ^ (h >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof GameState)) {
+			return false;
+		}
+		GameState other = (GameState)o;
+		return board == other.board && tokens == other.tokens && tokenHash == other.tokenHash
+				&& turn == other.turn && horseshoesFound == other.horseshoesFound
+				&& flags == other.flags && winner == other.winner
+				&& Arrays.equals(player, other.player);
+	}
+
+	public BoardGraph getBoard() {
+		return board;
+	}
+
+	public int getPlayerCount() {
+		return player.length;
+	}
+
+	/**
+	 * @return	the unopened token at a place, or <code>null</code> if there is none
+	 */
+	public Token getToken(int placeId) {
+		int city = board.getCityIndex(placeId);
+		if (city < 0 || (tokens & 1L << city) == 0) {
+			return null;
+		}
+		return TOKENS[tokenType[city]];
+	}
+
+	/**
+	 * @return	the token that has been opened at a place, or <code>null</code> if the token hasn't
+	 * 			been opened yet (or the place isn't a city). Unlike the unopened ones, every player
+	 * 			knows what the opened tokens were.
+	 */
+	public Token getOpenedToken(int placeId) {
+		int city = board.getCityIndex(placeId);
+		if (city < 0 || (tokens & 1L << city) != 0) {
+			return null;
+		}
+		return TOKENS[tokenType[city]];
+	}
+
+	/**
+	 * @return	<code>true</code> if there is an unopened token at the place
+	 */
+	public boolean hasToken(int placeId) {
+		int city = board.getCityIndex(placeId);
+		return city >= 0 && (tokens & 1L << city) != 0;
+	}
+
+	/**
+	 * @return	the cities with unopened tokens, bit i standing for city i
+	 */
+	public long getTokens() {
+		return tokens;
+	}
+
+	/**
+	 * Places a token, or removes one.
+	 *
+	 * @param placeId	the place of the token
+	 * @param token		the token, or <code>null</code> to remove the token
+	 * @throws IllegalArgumentException	if a token is placed on something else than a city
+	 */
+	public void setToken(int placeId, Token token) {
+		int city = board.getCityIndex(placeId);
+		if (city < 0) {
+			if (token != null) {
+				throw new IllegalArgumentException("Tokens can only be placed on cities.");
+			}
+			return;
+		}
+		long bit = 1L << city;
+		if ((tokens & bit) != 0) {
+			tokenHash ^= tokenKey(city, tokenType[city]);
+		}
+		if (token == null) {
+			tokens &= ~bit;
+		}
+		else {
+			tokenType = tokenType.clone(); // Copies of this state may be sharing the array
+			tokenType[city] = (byte)token.ordinal();
+			tokens |= bit;
+			tokenHash ^= tokenKey(city, token.ordinal());
+		}
+	}
+
+	public int getPlace(int player) {
+		return (int)(this.player[player] & PLACE);
+	}
+
+	public void setPlace(int player, int placeId) {
+		set(player, this.player[player] & ~PLACE | placeId);
+	}
+
+	public int getLockedDestination(int player) {
+		return (int)((this.player[player] & LOCKED_DESTINATION) >>> LOCKED_SHIFT) - 1;
+	}
+
+	public void setLockedDestination(int player, int placeId) {
+		set(player, this.player[player] & ~LOCKED_DESTINATION | (long)(placeId + 1) << LOCKED_SHIFT);
+	}
+
+	public boolean getBoardedNoMoney(int player) {
+		return (this.player[player] & BOARDED_NO_MONEY) != 0;
+	}
+
+	public void setBoardedNoMoney(int player, boolean value) {
+		setStatus(player, BOARDED_NO_MONEY, value);
+	}
+
+	public boolean startsAtTangier(int player) {
+		return (this.player[player] & TANGIER) != 0;
+	}
+
+	public int getMoney(int player) {
+		return (int)(this.player[player] >> MONEY_SHIFT);
+	}
+
+	/**
+	 * @throws IllegalArgumentException	if the amount doesn't fit in 24 bits
+	 */
+	public void setMoney(int player, int amount) {
+		if (amount > MAX_MONEY || amount < -MAX_MONEY) {
+			throw new IllegalArgumentException("Money out of range: " + amount);
+		}
+		set(player, this.player[player] & ~(-1L << MONEY_SHIFT) | (long)amount << MONEY_SHIFT);
+	}
+
+	public boolean hasFoundTheStar(int player) {
+		return (this.player[player] & HAS_FOUND_THE_STAR) != 0;
+	}
+
+	public void setHasFoundTheStar(int player) {
+		setStatus(player, HAS_FOUND_THE_STAR, true);
+	}
+
+	public int getTurnsLeftAsSlave(int player) {
+		return (int)((this.player[player] & SLAVE_TURNS) >>> SLAVE_SHIFT);
+	}
+
+	public void setTurnsLeftAsSlave(int player, int turns) {
+		set(player, this.player[player] & ~SLAVE_TURNS | ((long)turns << SLAVE_SHIFT & SLAVE_TURNS));
+	}
+
+	public boolean isCaptured(int player) {
+		return (this.player[player] & CAPTURED) != 0;
+	}
+
+	public void setCaptured(int player, boolean value) {
+		setStatus(player, CAPTURED, value);
+	}
+
+	public boolean isStranded(int player) {
+		return (this.player[player] & STRANDED) != 0;
+	}
+
+	public void setStranded(int player) {
+		setStatus(player, STRANDED, true);
+	}
+
+	private void setStatus(int player, long bit, boolean value) {
+		set(player, value ? this.player[player] | bit : this.player[player] & ~bit);
+	}
+
+	public int getTurn() {
+		return turn;
+	}
+
+	public void setTurn(int turn) {
+		this.turn = turn;
+	}
+
+	public int getHorseshoesFound() {
+		return horseshoesFound;
+	}
+
+	public void setHorseshoesFound(int horseshoesFound) {
+		this.horseshoesFound = horseshoesFound;
+	}
+
+	public boolean starHasBeenFound() {
+		return (flags & STAR_HAS_BEEN_FOUND) != 0;
+	}
+
+	public void setStarHasBeenFound() {
+		flags |= STAR_HAS_BEEN_FOUND;
+	}
+
+	public boolean capetownHasBeenVisited() {
+		return (flags & CAPETOWN_HAS_BEEN_VISITED) != 0;
+	}
+
+	public void setCapetownHasBeenVisited() {
+		flags |= CAPETOWN_HAS_BEEN_VISITED;
+	}
+
+	public boolean isGameOver() {
+		return (flags & GAME_OVER) != 0;
+	}
+
+	/**
+	 * Ends the game.
+	 *
+	 * @param winner	the player who won, or -1 if the game can no longer be won
+	 */
+	public void setGameOver(int winner) {
+		flags |= GAME_OVER;
+		this.winner = winner;
+	}
+
+	/**
+	 * @return	the player who won the game, or -1 if nobody has (yet)
+	 */
+	public int getWinner() {
+		return winner;
+	}
+}
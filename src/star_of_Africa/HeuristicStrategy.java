@@ -0,0 +1,274 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+/**
+ * The original AI of the game. It basically heads for the nearest token, buys it if it
+ * can afford to, and once it has the star (or a horseshoe that counts as one) takes the
+ * fastest way home. Every move is the one after which the TurnTable expects the fewest
+ * turns to the destination, and the player's budget decides whether ships and planes
+ * are used.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.4
+ */
+public class HeuristicStrategy implements AIStrategy {
+
+	private static final double STEPS_PER_TURN = 3.5; // The average diceroll
+
+	private RulesEngine engine;
+	private BoardGraph board;
+	private DistanceTable distances;
+	private TurnTable turns;
+	private TokenIndex tokens; // Follows the tokens of the game the strategy is playing
+	private TokenBelief belief; // Likewise
+	private GameState state; // The game and player that the current decision concerns
+	private int turn;
+
+	public HeuristicStrategy(RulesEngine engine, DistanceTable distances) {
+		this.engine = engine;
+		this.distances = distances;
+		board = engine.getBoard();
+		turns = engine.getTurnTable();
+		tokens = new TokenIndex(board, distances);
+		belief = new TokenBelief(engine);
+	}
+
+	public AIMove chooseMove(GameState state, int dice) {
+		this.state = state;
+		turn = state.getTurn();
+		int budget = calculateBudget();
+
+		// Once the player has the star, he's only interested in getting home
+		if (state.hasFoundTheStar(turn)) {
+			return headHome(dice);
+		}
+
+		// Is the player standing on a city with a token?
+		int here = state.getPlace(turn);
+		if (state.hasToken(here)) {
+			return new AIMove(AIMove.ROLL_FOR_TOKEN, -1, -1);
+		}
+
+		// If we're not standing on a token, find the best token
+		Place destination = getOptimalDestination(budget);
+		if (destination == null) {
+			return new AIMove(AIMove.STAY, -1, -1);
+		}
+		// If the player has the budget, a token one flight away beats any that takes longer to reach
+		if (budget >= RulesEngine.FLIGHT_FARE && turns.getTurns(here, destination.getId(), TurnTable.getMode(budget)) > 1) {
+			for (int j = 0 ; j < board.getDegree(here, BoardGraph.AIR) ; j++) {
+				int p = board.getNeighbor(here, BoardGraph.AIR, j);
+				if (state.hasToken(p)) {
+					return new AIMove(AIMove.FLY, -1, p);
+				}
+			}
+		}
+		return head(destination.getId(), budget, dice);
+	}
+
+	/**
+	 * Finds the move that gets the player to a target in the fewest turns on average, without
+	 * spending more than the budget on one move. Of equally fast moves the cheapest is chosen.
+	 *
+	 * @param target	the id of a port, or <code>TurnTable.HOME</code>
+	 * @param budget	how much money the player has allocated to traveling
+	 * @param dice		the value of the diceroll
+	 * @return			the move
+	 */
+	private AIMove head(int target, int budget, int dice) {
+		int mode = TurnTable.getMode(budget);
+		int here = state.getPlace(turn);
+		AIMove best = new AIMove(AIMove.STAY, -1, -1);
+		double fewest = TurnTable.UNREACHABLE;
+		for (AIMove move : engine.listMoves(state, dice)) {
+			int cost = cost(move);
+			if (move.getType() == AIMove.ROLL_FOR_TOKEN || cost > budget) {
+				continue;
+			}
+			double t = turns.getTurnsAfter(here, move, target, mode);
+			if (t < fewest || (t == fewest && cost < cost(best))) {
+				best = move;
+				fewest = t;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Finds the move that gets the player with the star home in the fewest turns on average,
+	 * counting on the money he has left after the move. Of equally fast moves the cheapest is chosen.
+	 *
+	 * @param dice	the value of the diceroll
+	 * @return		the move
+	 */
+	private AIMove headHome(int dice) {
+		int here = state.getPlace(turn);
+		int money = state.getMoney(turn);
+		AIMove best = new AIMove(AIMove.STAY, -1, -1);
+		double fewest = TurnTable.UNREACHABLE;
+		for (AIMove move : engine.listMoves(state, dice)) {
+			int cost = cost(move);
+			if (move.getType() == AIMove.ROLL_FOR_TOKEN || cost > money) {
+				continue;
+			}
+			double t = turns.getHomeTurnsAfter(here, move, money - cost);
+			if (t < fewest || (t == fewest && cost < cost(best))) {
+				best = move;
+				fewest = t;
+			}
+		}
+		return best;
+	}
+
+	private static int cost(AIMove move) {
+		switch (move.getType()) {
+		case AIMove.SAIL:
+			return RulesEngine.SHIP_FARE;
+		case AIMove.FLY:
+			return RulesEngine.FLIGHT_FARE;
+		default:
+			return 0;
+		}
+	}
+
+	public boolean wantsToken(GameState state) {
+		int turn = state.getTurn();
+		if (!engine.canBuyToken(state)) {
+			return false;
+		}
+		// On the mainland it's enough to have money to open the token, but on an island the player
+		// must also have enough left to get off the island
+		return !engine.playerOnIsland(state, turn) || state.getMoney(turn) >= 200;
+	}
+
+	/**
+	 * Calculates the appropriate budget that an AI player is to have at its disposal.
+	 * 
+	 * @return	the budget.
+	 */
+	private int calculateBudget() {
+		int money = state.getMoney(turn);
+		if (state.starHasBeenFound()) {
+			if (!state.hasFoundTheStar(turn) && money == 300) {
+				return 200;
+			}
+			return money;
+		}
+		if (money <= 100) {
+			if (engine.tokensOnlyLeftOnIslands(state) || engine.playerOnIsland(state, turn)) {
+				return money;
+			}
+			else {
+				return 0;
+			}
+		}
+		if (money <= 500) {
+			return 100;
+		}
+		if (money <= 1000) {
+			return 300;
+		}
+		return money / 3;
+	}
+
+	/**
+	 * Calculates the optimal destination. For now the method isn't all that clever. It basically
+	 * a slightly enhanced "look-up-the-nearest-token"-routine. Despite its simplicity it still
+	 * gives good results most of the time.
+	 * 
+	 * @param budget	how much money the player has allocated to traveling
+	 * @return			the place that is deemed to be optimal
+	 */
+	private Place getOptimalDestination(int budget) {
+		int here = state.getPlace(turn);
+		Place destination = null;
+		int land = 1000;
+		int sea = 0;
+		int mode = DistanceTable.LAND;
+		tokens.update(state.getTokens());
+		// Get nearest token by land. If none can be reached by land, any token will do.
+		if (state.getTokens() != 0) {
+			land = tokens.getDistance(here, DistanceTable.LAND);
+			int nearest = tokens.getNearest(here, DistanceTable.LAND);
+			if (nearest < 0) {
+				nearest = board.getCity(Long.numberOfTrailingZeros(state.getTokens()));
+			}
+			destination = board.getPlace(nearest);
+		}
+
+		// Get nearest token by sea
+		if (budget >= 100) {
+			sea = tokens.getDistance(here, DistanceTable.LAND_AND_SEA);
+			int nearest = tokens.getNearest(here, DistanceTable.LAND_AND_SEA);
+			if (nearest >= 0 && land - sea > 3) {
+				destination = board.getPlace(nearest);
+				mode = DistanceTable.LAND_AND_SEA;
+			}
+		}
+		if (destination != null && distances.getDistance(here, destination.getId(), mode) < DistanceTable.UNREACHABLE) {
+			destination = board.getPlace(weigh(destination.getId(), mode));
+		}
+
+		// If there aren't any tokens nearby, and money isn't a problem, suggest a plane reachable destination.
+		if (budget >= 300 && Math.min(land, sea) > 8) {
+			for (int j = 0 ; j < board.getDegree(here, BoardGraph.AIR) ; j++) {
+				Place p = board.getPlace(board.getNeighbor(here, BoardGraph.AIR, j));
+				if (state.hasToken(p.getId())) {
+					return p;
+				}
+			}
+		}
+		return destination;
+	}
+
+	/**
+	 * Not all tokens are alike: the gems at Gold Coast are worth double, and a blank at Slave Coast
+	 * costs turns. Depending on which tokens are left, Gold Coast may be worth a detour, and another
+	 * token may be worth going a bit further than to Slave Coast.
+	 *
+	 * @param destination	the city with the nearest token
+	 * @param mode			<code>DistanceTable.LAND</code> or <code>DistanceTable.LAND_AND_SEA</code>
+	 * @return				the city that is best worth heading for
+	 */
+	private int weigh(int destination, int mode) {
+		belief.update(state);
+		int here = state.getPlace(turn);
+		double cost = cost(destination, mode);
+		if (destination == engine.getSlaveCoast()) {
+			int other = tokens.getNearest(here, mode, destination);
+			if (other >= 0 && cost(other, mode) < cost) {
+				destination = other;
+				cost = cost(other, mode);
+			}
+		}
+		int goldCoast = engine.getGoldCoast();
+		if (state.hasToken(goldCoast) && distances.getDistance(here, goldCoast, mode) < DistanceTable.UNREACHABLE
+				&& cost(goldCoast, mode) < cost) {
+			destination = goldCoast;
+		}
+		return destination;
+	}
+
+	// The steps to a token, less what it is worth
+	private double cost(int city, int mode) {
+		return distances.getDistance(state.getPlace(turn), city, mode) - belief.getWorth(state, turn, city) * STEPS_PER_TURN;
+	}
+}
@@ -20,25 +20,31 @@ package star_of_Africa;
 
 import java.awt.Dimension;
 import java.awt.GraphicsEnvironment;
-import java.awt.Image;
+import java.awt.Point;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.net.URL;
 import java.util.HashSet;
 
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
-import javax.swing.JLabel;
-import javax.swing.JLayeredPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.SwingWorker;
 
 /**
  * This class provides the map interface. It implements MouseListener so that
- * moving the gamepiece by clicking is possible and it consists of a JLayeredPane
+ * moving the gamepiece by clicking is possible and it consists of a BoardCanvas
  * inside a JScrollPane. All visual elements in this class depend on the zoom
  * level, the screen resolution, and their original size. For this reason the
  * algorithms to calculate their position become rather convoluted.
+ * </p>
+ * The board itself is drawn from a TilePyramid, so zooming doesn't scale the whole image,
+ * and there's no limit to how far it can be zoomed.
+ * </p>
+ * Zooming shows a rough frame at once: the board is drawn without smoothing, and the sprites
+ * that haven't been scaled to the new size yet are scaled roughly. The sprites are then
+ * scaled properly in the background, and swapped in all at once, unless the zoom has
+ * changed again in the meantime.
  * 
  * @author Daniel Suni
  * @version 1.0.0
@@ -51,20 +57,21 @@ public class Map extends JPanel implements MouseListener {
 	private final int HEIGHT = 2373;
 	private final int PIECE_SCALE_CONSTANT = 60; // Determined by trial and error
 	private final int PIECE_SEPARATION_CONSTANT = 10; // Distance between pieces that end up in the same place. (Also found by T&E)
-	private final int ANIMATION_FRAME_DELAY = 20;//83; // 1000 / 12 ~= 83. I.e. will give an animation of 12 fps
 	private double scale; // Used to calculate the actual size of the images, given original image size, monitor resolution and zoom level
 	private boolean tokensRevealed = false; // After the game all tokens are revealed, and this class must know this
-    private ImageIcon gameBoard,tokenBack,cityRing,smallRing;
+    private ImageIcon tokenBack,cityRing,smallRing;
     private ImageIcon[] piece;
-    private Image image,original,tokenImg,tokenOriginal,cityImg,smallImg,cityOriginal,smallOriginal;
+    private boolean rough; // Is the map shown roughly while the sprites are being scaled?
+    private SwingWorker<Void, Void> rescaler; // Scales the sprites of the latest zoom
+    private Animator animator = new Animator(); // Moves the gamepieces
     private Dimension dim;
     private JScrollPane scrollPane;
-    private JLayeredPane layerPane = new JLayeredPane();
-    private JLabel background;
-    private JLabel[] pieceLabel,tokenLabel;
+    private BoardCanvas canvas; // Shows the board, and paints the sprites on it
+    private Sprite[] pieceSprite,tokenSprite;
+    private GameState state;
     private Player[] player;
     private HashSet<Place> cities,possibleMoves;
-    private HashSet<JLabel> rings = new HashSet<JLabel>();
+    private HashSet<Sprite> rings = new HashSet<Sprite>();
     private PlayingField pf;
 
     /**
@@ -73,16 +80,18 @@ public class Map extends JPanel implements MouseListener {
      * the cities, and the players will be placed on the starting point they picked
      * earlier.
      * 
+     * @param state	the state of the game, which holds the tokens.
      * @param player	the players paticipating in the game.
      * @param cities	the cities on the map.
      */
-    public Map(Player[] player, HashSet<Place> cities) {
+    public Map(GameState state, Player[] player, HashSet<Place> cities) {
+    	this.state = state;
     	this.player = player;
     	this.cities = cities;
     	possibleMoves = new HashSet<Place>();
         setLayout(new BoxLayout(this, BoxLayout.LINE_AXIS));    
-        pieceLabel = new JLabel[player.length];
-        tokenLabel = new JLabel[30]; // 30 cities on the map
+        pieceSprite = new Sprite[player.length];
+        tokenSprite = new Sprite[cities.size()]; // One for every city on the map
         piece = new ImageIcon[player.length];
               
         // Get the screen size
@@ -91,62 +100,63 @@ public class Map extends JPanel implements MouseListener {
         dim = trimDimension(dim);
         scale = HEIGHT/dim.getHeight();
         
-        // Set up the background image (i.e. the map)
-        URL imgURL = getClass().getResource("img/board.png");
-        gameBoard = new ImageIcon(imgURL);
-        original = gameBoard.getImage();
-        image = original.getScaledInstance(-1, (int)dim.getHeight(), Image.SCALE_FAST);
-        gameBoard.setImage(image);
-        background = new JLabel(gameBoard);      
-        background.setBounds(0, 0, gameBoard.getIconWidth(), gameBoard.getIconHeight());
+        // Set up the canvas with the background image (i.e. the map)
+        canvas = new BoardCanvas(getClass().getResource("img/board.png"), WIDTH, HEIGHT);
+        canvas.setScale(scale, rough);
         
         // Set up rings (to indicate where player may move)
-        imgURL = getClass().getResource("img/ring.png");
-        cityRing = new ImageIcon(imgURL);
-        cityOriginal = cityRing.getImage();
-        imgURL = getClass().getResource("img/ring_small.png");
-        smallRing = new ImageIcon(imgURL);
-        smallOriginal = smallRing.getImage();
+        cityRing = getSprite("img/ring.png", scale, false);
+        smallRing = getSprite("img/ring_small.png", scale, false);
         
         // Set up the game pieces
         for (int i=0; i<player.length; i++) {
         	piece[i] = player[i].getGamePiece().getResizedIcon((int)(PIECE_SCALE_CONSTANT/scale));
-        	pieceLabel[i] = new JLabel(piece[i]);
-        	pieceLabel[i].setBounds(getPieceX(player[i],i),getPieceY(player[i],i),piece[i].getIconWidth(),piece[i].getIconHeight());
-        	layerPane.add(pieceLabel[i], new Integer(3),i);
+        	pieceSprite[i] = new Sprite(piece[i]);
+        	pieceSprite[i].setLocation(getPieceX(player[i],i),getPieceY(player[i],i));
+        	canvas.add(pieceSprite[i], BoardCanvas.PIECES);
         }
         
         // Set up the tokens
-        imgURL = getClass().getResource("img/token.png");
-        tokenBack = new ImageIcon(imgURL);
-        tokenOriginal = tokenBack.getImage();
-        tokenImg = tokenOriginal.getScaledInstance(-1, (int)(tokenBack.getIconHeight()/scale), Image.SCALE_DEFAULT);
-        tokenBack.setImage(tokenImg);
+        tokenBack = getSprite("img/token.png", scale, false);
         int i=0;
         for (Place p : cities) {
-        	tokenLabel[i] = new JLabel(tokenBack);
-        	tokenLabel[i].setBounds((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
-        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0), tokenBack.getIconWidth(), tokenBack.getIconHeight());
-        	layerPane.add(tokenLabel[i], new Integer(1),i);
+        	tokenSprite[i] = new Sprite(tokenBack);
+        	tokenSprite[i].setLocation((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
+        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0));
+        	canvas.add(tokenSprite[i], BoardCanvas.TOKENS);
         	i++;
         }
         
-        // Set up the LayeredPane
-        layerPane.setPreferredSize(new Dimension(gameBoard.getIconWidth(), gameBoard.getIconHeight()));     
-        layerPane.add(background, new Integer(0));
+        // Set up the canvas
+        canvas.setPreferredSize(new Dimension(getBoardWidth(), getBoardHeight()));
         
         // Set up the ScrollPane
         scrollPane = new JScrollPane();
-        scrollPane.setViewportView(layerPane);
+        scrollPane.setViewportView(canvas);
         add(scrollPane);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         
         // Set up MouseListener
-        layerPane.addMouseListener(this);
+        canvas.addMouseListener(this);
         addMouseListener(this);
     }
 
+    // Returns an image at the scale of the board, roughly scaled if it's not ready at that size
+    private ImageIcon getSprite(String name, double scale, boolean rough) {
+    	int height = (int)(SpriteCache.getIcon(name, 0).getIconHeight()/scale);
+    	return rough ? SpriteCache.getRoughIcon(name, height) : SpriteCache.getIcon(name, height);
+    }
+    
+    // The size of the board as it's shown
+    private int getBoardWidth() {
+    	return (int)Math.round(WIDTH/scale);
+    }
+    
+    private int getBoardHeight() {
+    	return (int)Math.round(HEIGHT/scale);
+    }
+    
     // Trims the dimensions to a size that will fit on the users screen 
     private Dimension trimDimension (Dimension dim) {
     	dim.setSize(dim.getWidth(), dim.getHeight()-150); // Reduce height to make room for other components
@@ -198,76 +208,115 @@ public class Map extends JPanel implements MouseListener {
      * Changes the zoom of the map.
      * 
      * @param zoomlevel	the new zoomlevel. Should have a value >= 1.00.
-     * @return			<code>true</code> if the operation succeeded, <code>false</code>
-     * 					if the resulting image would have been too big. An image too big,
-     * 					can cause a memory heap overflow.
+     * @return			<code>true</code> if the operation succeeded. (Since the board is
+     * 					drawn from tiles, any zoom level will do.)
      */
     public boolean zoom (double zoomlevel) {
+    	// The moves being shown were laid out for the old scale
+    	animator.finishAll();
     	// Resize the map
-    	int y = (int)(dim.getHeight()*zoomlevel);
-    	if (y > 3000) {
-    		return false;
-    	}
-    	image = original.getScaledInstance(-1, y, Image.SCALE_FAST);
-    	gameBoard.setImage(image);
-    	int x = gameBoard.getIconWidth();
+        scale = HEIGHT/(dim.getHeight()*zoomlevel);
+    	int x = getBoardWidth();
+    	int y = getBoardHeight();
+    	
+    	// Rezise the canvas
+    	canvas.setPreferredSize(new Dimension(x, y));
     	
-    	// Rezise the Layered Pane
-    	layerPane.setPreferredSize(new Dimension(x, y));
-    	background.setBounds(0, 0, x, y);
-        background.setIcon(gameBoard);
+    	// Show it roughly for now
+    	rough = true;
+    	canvas.setScale(scale, rough);
+    	layoutSprites();
+ 
+        // Set scrollbar policy
+        if (zoomlevel > 1) {
+        	scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+            scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        }
+        else {
+        	scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
+            scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        }
         
+        // Make the changes visible
+        scrollPane.revalidate();
+        scrollPane.repaint();
+        rescale();
+        return true;
+    }
+    
+    // Scales the sprites properly in the background, and swaps them in once they're all ready
+    private void rescale() {
+    	if (rescaler != null) {
+    		rescaler.cancel(false); // The user is still zooming, so it would be shown for no more than a moment
+    	}
+    	final double target = scale;
+    	final boolean revealed = tokensRevealed;
+    	rescaler = new SwingWorker<Void, Void>() {
+    		// Getting the sprites puts them in the cache, from where they're laid out
+    		protected Void doInBackground() {
+    			for (int i=0; i<player.length && !isCancelled(); i++) {
+    				player[i].getGamePiece().getResizedIcon((int)(PIECE_SCALE_CONSTANT/target));
+    			}
+    			ImageIcon back = getSprite("img/token.png", target, false);
+    			getSprite("img/ring.png", target, false);
+    			getSprite("img/ring_small.png", target, false);
+    			if (revealed) {
+    				for (Token t : Token.values()) {
+    					t.getResizedIcon(back.getIconHeight());
+    				}
+    			}
+    			return null;
+    		}
+
+    		protected void done() {
+    			if (!isCancelled() && scale == target) {
+    				rough = false;
+    				canvas.setScale(scale, rough);
+    				layoutSprites();
+    			}
+    		}
+    	};
+    	rescaler.execute();
+    }
+    
+    // Sizes and positions the game pieces, tokens and movement markers by the scale of the board
+    private void layoutSprites() {
         // Resize and reposition the game pieces
-        scale = HEIGHT/(dim.getHeight()*zoomlevel);
         for (int i=0; i<player.length; i++) {
-        	piece[i] = player[i].getGamePiece().getResizedIcon((int)(PIECE_SCALE_CONSTANT/scale));
-        	pieceLabel[i].setIcon(piece[i]);
-        	pieceLabel[i].setBounds(getPieceX(player[i],i),getPieceY(player[i],i),piece[i].getIconWidth(),piece[i].getIconHeight());
+        	int height = (int)(PIECE_SCALE_CONSTANT/scale);
+        	piece[i] = rough ? player[i].getGamePiece().getRoughIcon(height) : player[i].getGamePiece().getResizedIcon(height);
+        	pieceSprite[i].setIcon(piece[i]);
+        	pieceSprite[i].setLocation(getPieceX(player[i],i),getPieceY(player[i],i));
         }
         
         // Resize and reposition the tokens
-        tokenBack.setImage(tokenOriginal);
-        tokenImg = tokenOriginal.getScaledInstance(-1, (int)(tokenBack.getIconHeight()/scale), Image.SCALE_DEFAULT);
-        tokenBack.setImage(tokenImg);
+        tokenBack = getSprite("img/token.png", scale, rough);
         int i=0;
         for (Place p : cities) {
-        	if (p.getToken() != null) {
-        		tokenLabel[i].setIcon(tokenBack);
+        	if (state.hasToken(p.getId())) {
+        		tokenSprite[i].setIcon(tokenBack);
         	}
         	else {
-        		tokenLabel[i].setIcon(null);
+        		tokenSprite[i].setIcon(null);
         	}
-        	tokenLabel[i].setBounds((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
-        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0), tokenBack.getIconWidth(), tokenBack.getIconHeight());
+        	tokenSprite[i].setLocation((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
+        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0));
         	i++;
         }
         
         // Resize and reposition movement markers
-        for (JLabel l : rings) {
-        	layerPane.remove(l);
+        cityRing = getSprite("img/ring.png", scale, rough);
+        smallRing = getSprite("img/ring_small.png", scale, rough);
+        for (Sprite r : rings) {
+        	canvas.remove(r);
         }
         rings.clear();
         showMoveOptions(possibleMoves);
- 
-        // Set scrollbar policy
-        if (zoomlevel > 1) {
-        	scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
-            scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
-        }
-        else {
-        	scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
-            scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
-        }
         
         // If tokens are already revealed we want them to stay revealed
         if (tokensRevealed) {
         	revealTokens();
         }
-        
-        // Make the changes visible
-        scrollPane.imageUpdate(image, -1, 0, 0, x, y);
-        scrollPane.revalidate();
-        return true;
     }
     
     /**
@@ -278,59 +327,48 @@ public class Map extends JPanel implements MouseListener {
      */
     public void showMoveOptions(HashSet<Place> possibleMoves) {
     	this.possibleMoves = possibleMoves;
-    	cityRing.setImage(cityOriginal);
-    	cityImg = cityOriginal.getScaledInstance(-1, (int)(cityRing.getIconHeight()/scale), Image.SCALE_DEFAULT);
-    	cityRing.setImage(cityImg);
-    	smallRing.setImage(smallOriginal);
-    	smallImg = smallOriginal.getScaledInstance(-1, (int)(smallRing.getIconHeight()/scale), Image.SCALE_DEFAULT);
-    	smallRing.setImage(smallImg);
     	for (Place p : possibleMoves) {
     		if (p.isCity() || p.isStart()) {
-    			JLabel temp = new JLabel(cityRing);
-    			temp.setBounds((int)(p.getX()/scale - cityRing.getIconWidth()/2.0), (int)(p.getY()/scale - cityRing.getIconHeight()/2.0),
-    					cityRing.getIconWidth(), cityRing.getIconHeight());
+    			Sprite temp = new Sprite(cityRing);
+    			temp.setLocation((int)(p.getX()/scale - cityRing.getIconWidth()/2.0), (int)(p.getY()/scale - cityRing.getIconHeight()/2.0));
     			rings.add(temp);
     		}
     		else {
-    			JLabel temp = new JLabel(smallRing);
-    			temp.setBounds((int)(p.getX()/scale - smallRing.getIconWidth()/2.0), (int)(p.getY()/scale - smallRing.getIconHeight()/2.0),
-    					smallRing.getIconWidth(), smallRing.getIconHeight());
+    			Sprite temp = new Sprite(smallRing);
+    			temp.setLocation((int)(p.getX()/scale - smallRing.getIconWidth()/2.0), (int)(p.getY()/scale - smallRing.getIconHeight()/2.0));
     			rings.add(temp);
     		}
     	}
-    	for (JLabel l : rings) {
-    		layerPane.add(l,new Integer(2));
+    	for (Sprite r : rings) {
+    		canvas.add(r, BoardCanvas.RINGS);
     	}
     }
     
     /**
-     * Makes changes visible by updating the visual components.
+     * Makes changes visible by updating the sprites. Only what has changed gets painted again.
      * (Typically used for changes not related to zooming.)
      */
     public void refresh() {
     	// Gamepieces
     	for (int i=0; i<player.length; i++) {
-        	pieceLabel[i].setBounds(getPieceX(player[i],i),getPieceY(player[i],i),piece[i].getIconWidth(),piece[i].getIconHeight());
+        	pieceSprite[i].setLocation(getPieceX(player[i],i),getPieceY(player[i],i));
         }
     	// Tokens
     	int i=0;
         for (Place p : cities) {
-        	if (p.getToken() != null) {
-        		tokenLabel[i].setIcon(tokenBack);
+        	if (state.hasToken(p.getId())) {
+        		tokenSprite[i].setIcon(tokenBack);
         	}
         	else {
-        		tokenLabel[i].setIcon(null);
+        		tokenSprite[i].setIcon(null);
         	}
-        	tokenLabel[i].setBounds((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
-        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0), tokenBack.getIconWidth(), tokenBack.getIconHeight());
+        	tokenSprite[i].setLocation((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
+        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0));
         	i++;
         }
         if (tokensRevealed) {
         	revealTokens();
         }
-        // Make the changes visible
-        scrollPane.imageUpdate(image, -1, 0, 0, gameBoard.getIconWidth(), gameBoard.getIconHeight());
-        this.paintImmediately(0, 0, this.getWidth(), this.getHeight());
     }
     
     /**
@@ -340,106 +378,62 @@ public class Map extends JPanel implements MouseListener {
     	tokensRevealed = true;
     	int i=0;
         for (Place p : cities) {
-        	if (p.getToken() != null) {
-        		tokenLabel[i].setIcon(p.getToken().getResizedIcon(tokenLabel[i].getHeight()));
+        	if (state.hasToken(p.getId())) {
+        		Token t = state.getToken(p.getId());
+        		tokenSprite[i].setIcon(rough ? t.getRoughIcon(tokenBack.getIconHeight()) : t.getResizedIcon(tokenBack.getIconHeight()));
         	}
         	else {
-        		tokenLabel[i].setIcon(null);
+        		tokenSprite[i].setIcon(null);
         	}
-        	tokenLabel[i].setBounds((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
-        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0), tokenBack.getIconWidth(), tokenBack.getIconHeight());
+        	tokenSprite[i].setLocation((int)(p.getX()/scale-tokenBack.getIconWidth()/2.0),
+        			(int)(p.getY()/scale-tokenBack.getIconHeight()/2.0));
         	i++;
         }
-        scrollPane.imageUpdate(image, -1, 0, 0, gameBoard.getIconWidth(), gameBoard.getIconHeight());
     }
     
     /**
-     * Animates the moving of a player's gamepiece from one place to another.
+     * Animates the moving of a player's gamepiece from one place to another. The piece is moved
+     * by the Animator, so this returns at once, and the callback is run when the piece has arrived.
      * 
      * @param destination	the Place the piece is to be moved to
+     * @param route			the places the piece moves through step by step, both ends included,
+     * 						or <code>null</code> for a straight line (flights and ships)
      * @param turn			the current turn. (This reveals which player is moving,
      * 						and by implication which piece is to be moved.)
+     * @param done			run on the event thread once the move has been shown
      */
-    public void showMove(Place destination, int turn) {
-    	int newx, newy;
-    	long time = System.currentTimeMillis();
-    	/*Move is animated here*/
-    	if (!destination.getRouteTo().isEmpty()){
-    		/*Go through steps to get to the destination*/
-    		for (int s = 1; s<destination.getRouteTo().size();++s){
-    			int startx = (int)(destination.getRouteTo().get(s-1).getX()/scale- piece[turn].getIconWidth()/2.0);
-				int starty = (int)(destination.getRouteTo().get(s-1).getY()/scale- piece[turn].getIconWidth()/2.0);
-				int destx = (int)(destination.getRouteTo().get(s).getX()/scale- piece[turn].getIconWidth()/2.0);
-				int desty = (int)(destination.getRouteTo().get(s).getY()/scale- piece[turn].getIconWidth()/2.0);
-				int deltax = startx - destx;
-				int deltay = starty - desty;
-				int width = piece[turn].getIconWidth() + Math.abs(deltax)/36 + 3; // Width of box that need to be repainted (+3 pixel margin)
-    	int height = piece[turn].getIconHeight() + Math.abs(deltay)/36 + 3 ; // Heigh
-				int x = startx;
-				int y = starty;
-				for (int i = 1 ; i <= 36 ; i++) { // 36 frames @ 12 fps = 3 sec
-					newx = x;
-					newy = y;
-					x = (int)(startx - deltax*(i/36.0));
-					y = (int)(starty - deltay*(i/36.0));
-					if (deltax > 0) {
-						newx = x;
-					}
-					if (deltay > 0) {
-						newy = y;
-					}
-					pieceLabel[turn].setBounds(x, y, pieceLabel[turn].getWidth(), pieceLabel[turn].getHeight());
-					scrollPane.imageUpdate(image, -1, 0, 0, gameBoard.getIconWidth(), gameBoard.getIconHeight());
-					this.paintImmediately(newx + layerPane.getX(), newy + layerPane.getY(), width, height);
-					time += ANIMATION_FRAME_DELAY/(destination.getRouteTo().size()-1);
-					try {
-					    Thread.sleep(Math.max(0,time - System.currentTimeMillis()));
-					}
-					catch (InterruptedException e) {
-					    e.printStackTrace();
-					}
-				}
-    		}
-		
-		}else{	//Use straight line for flights, and ships
-			int startx = pieceLabel[turn].getX();
-			int starty = pieceLabel[turn].getY();
-			int destx = (int)(destination.getX()/scale - piece[turn].getIconWidth()/2.0);
-			int desty = (int)(destination.getY()/scale - piece[turn].getIconHeight()/2.0);
-			int deltax = startx - destx;
-			int deltay = starty - desty;
-			int width = piece[turn].getIconWidth() + Math.abs(deltax)/36 + 3; // Width of box that need to be repainted (+3 pixel margin)
-    	int height = piece[turn].getIconHeight() + Math.abs(deltay)/36 + 3 ; // Heigh
-			int x = startx;
-			int y = starty;		
-			for (int i = 1 ; i <= 36 ; i++) { // 36 frames @ 12 fps = 3 sec
-				newx = x;
-				newy = y;
-				x = (int)(startx - deltax*(i/36.0));
-				y = (int)(starty - deltay*(i/36.0));
-				if (deltax > 0) {
-					newx = x;
-				}
-				if (deltay > 0) {
-					newy = y;
-				}
-				pieceLabel[turn].setBounds(x, y, pieceLabel[turn].getWidth(), pieceLabel[turn].getHeight());
-				scrollPane.imageUpdate(image, -1, 0, 0, gameBoard.getIconWidth(), gameBoard.getIconHeight());
-				this.paintImmediately(newx + layerPane.getX(), newy + layerPane.getY(), width, height);
-				time += ANIMATION_FRAME_DELAY;
-				try {
-			        Thread.sleep(Math.max(0,time - System.currentTimeMillis()));
-				}
-				catch (InterruptedException e) {
-			        e.printStackTrace();
-				}
-			}
-		}
-    	for (JLabel l : rings) {
-        	layerPane.remove(l);
+    public void showMove(Place destination, Place[] route, int turn, Runnable done) {
+    	for (Sprite r : rings) {
+        	canvas.remove(r);
         }
     	rings.clear();
         possibleMoves.clear();
+    	// At instant speed the piece is simply put in place by the callback
+    	int frameDelay = pf.getSpeed().getFrameDelay();
+    	if (frameDelay == 0) {
+    		done.run();
+    		return;
+    	}
+    	Point[] path;
+    	if (route != null) {
+    		path = new Point[route.length];
+    		for (int i = 0 ; i < route.length ; i++) {
+    			path[i] = new Point((int)(route[i].getX()/scale - piece[turn].getIconWidth()/2.0),
+    					(int)(route[i].getY()/scale - piece[turn].getIconHeight()/2.0));
+    		}
+    	}
+    	else { // Use a straight line for flights and ships
+    		path = new Point[] {pieceSprite[turn].getLocation(), new Point((int)(destination.getX()/scale - piece[turn].getIconWidth()/2.0),
+    				(int)(destination.getY()/scale - piece[turn].getIconHeight()/2.0))};
+    	}
+    	animator.move(pieceSprite[turn], path, 36L*frameDelay, done); // 36 frames @ 12 fps = 3 sec
+    }
+    
+    /**
+     * Waits until the moves being shown have ended. Must not be called on the event thread.
+     */
+    public void awaitIdle() {
+    	animator.awaitIdle();
     }
     
     public void setPlayingField(PlayingField pf) {
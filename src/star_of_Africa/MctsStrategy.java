@@ -0,0 +1,529 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * An AI that plays the game out over and over again in its head (Monte Carlo tree search).
+ * Every playout starts by guessing what lies under the tokens: the kinds of token still
+ * unopened are dealt out among the cities at random, so the AI never peeks under a token.
+ * The player's own decisions are then picked by UCT from a tree that grows by one decision
+ * per playout, while the other players are played by the HeuristicStrategy. Once the
+ * playout leaves the tree the HeuristicStrategy plays everybody for a few more rounds, and
+ * the position is valued by an Evaluator. The dicerolls of the player are nodes of the tree,
+ * but everything else that is random is left to the playouts, so a node stands for a
+ * sequence of decisions rather than a position, and a move is only weighed against the
+ * moves that were available along with it.
+ * </p>
+ * The tree grows from the moves the HeuristicStrategy would make, and the decision at the
+ * root stays that of the HeuristicStrategy unless some other move does better beyond doubt.
+ * So the more playouts there is time for, the more often the AI knows better than the
+ * rules it started from.
+ * </p>
+ * Every processor grows a tree of its own until the time is up, after which the statistics
+ * of the moves at the roots are added together. No playout is started that might not be over
+ * by then, judging by the longest one so far, but the time budget is a target rather than a
+ * promise: every move is played out at least once, and the thread may still lose the processor
+ * (to garbage collection, say) near the end. Callers that need a limit measure it themselves.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class MctsStrategy implements AIStrategy {
+
+	public static final long DEFAULT_TIME = 1000; // Milliseconds per decision
+	private static final double BIAS = 1.0; // Free wins for the move the HeuristicStrategy would make
+	private static final double CONFIDENCE = 2.0; // Standard errors by which a move must beat the usual one to be chosen
+	private static final double EXPLORATION = 0.7; // The UCT constant. Playouts are worth 0..1
+	private static final int PLAYOUT_ROUNDS = 3; // Playouts that last longer are cut short, and the position valued by an Evaluator
+
+	private final RulesEngine engine;
+	private final BoardGraph board;
+	private final DistanceTable distances;
+	private final long timeBudget;
+	private final int threads;
+	private final ForkJoinPool pool; // null when searching in the calling thread only
+	private final GameRandom random;
+	private final HeuristicStrategy heuristic;
+	private final Evaluator evaluator;
+	private long plannedState; // Hash of the position the last decision leads to
+	private boolean plannedBuy; // Does the player buy the token there?
+
+	/**
+	 * Constructs a strategy with the default time budget that uses all processors.
+	 */
+	public MctsStrategy(RulesEngine engine, DistanceTable distances, GameRandom random) {
+		this(engine, distances, random, DEFAULT_TIME, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs a strategy.
+	 * 
+	 * @param engine		the rules
+	 * @param distances		the distance tables of the board
+	 * @param random		the generator the playouts draw their own generators from
+	 * @param timeBudget	the time a decision may take in milliseconds. Every move available
+	 * 						is played out at least once, though.
+	 * @param threads		the number of trees grown in parallel
+	 */
+	public MctsStrategy(RulesEngine engine, DistanceTable distances, GameRandom random, long timeBudget, int threads) {
+		this.engine = engine;
+		this.distances = distances;
+		this.random = random;
+		this.timeBudget = timeBudget;
+		this.threads = Math.max(1, threads);
+		board = engine.getBoard();
+		heuristic = new HeuristicStrategy(engine, distances);
+		evaluator = new Evaluator(engine);
+		pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+	}
+
+	public AIMove chooseMove(GameState state, int dice) {
+		GameState root = new GameState(state);
+		AIMove[] actions = engine.listMoves(root, dice);
+		long deadline = System.nanoTime() + 1000000L * timeBudget; // In the time of System.nanoTime()
+		AIMove usual = heuristic.chooseMove(root, dice);
+		Node[] trees = grow(root, dice, actions, usual, deadline);
+
+		// Add up the statistics of the trees
+		Node[] total = new Node[actions.length];
+		int usualIndex = -1;
+		for (int i = 0 ; i < actions.length ; i++) {
+			total[i] = new Node(actions[i], false);
+			for (Node tree : trees) {
+				total[i].add(tree.find(actions[i]));
+			}
+			if (total[i].is(usual)) {
+				usualIndex = i;
+			}
+		}
+		// Playouts are noisy, so the usual move is only replaced by one that is better beyond doubt.
+		// Of those the most visited one is chosen.
+		int best = usualIndex;
+		for (int i = 0 ; i < actions.length ; i++) {
+			boolean candidate = usualIndex < 0 || total[i].beats(total[usualIndex]);
+			if (candidate && (best < 0 || best == usualIndex || total[i].visits > total[best].visits)) {
+				best = i;
+			}
+		}
+		GameState after = new GameState(root);
+		engine.makeMove(after, actions[best]);
+		plannedState = after.hash();
+		plannedBuy = heuristic.wantsToken(after);
+		if (total[best].buy != null) {
+			int usualBuy = plannedBuy ? 1 : 0;
+			plannedBuy ^= total[best].buy[1 - usualBuy].beats(total[best].buy[usualBuy]);
+		}
+		return actions[best];
+	}
+
+	public boolean wantsToken(GameState state) {
+		if (!engine.canBuyToken(state)) {
+			return false;
+		}
+		if (state.hash() == plannedState) {
+			return plannedBuy;
+		}
+		// The player has been moved by a ship, so there's no search to go by
+		return heuristic.wantsToken(state);
+	}
+
+	// Grows a tree per thread until the deadline. Returns the roots.
+	private Node[] grow(GameState root, int dice, AIMove[] actions, AIMove usual, long deadline) {
+		if (pool == null) {
+			return new Node[] {new Tree(random.split()).grow(root, dice, actions, usual, deadline)};
+		}
+		List<Callable<Node>> tasks = new ArrayList<Callable<Node>>();
+		for (int i = 0 ; i < threads ; i++) {
+			tasks.add(new TreeTask(new Tree(random.split()), root, dice, actions, usual, deadline));
+		}
+		List<Future<Node>> results = pool.invokeAll(tasks);
+		Node[] trees = new Node[threads];
+		try {
+			for (int i = 0 ; i < threads ; i++) {
+				trees[i] = results.get(i).get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		return trees;
+	}
+
+	/**
+	 * A decision of the searching player: a move, or whether to buy the token after a move.
+	 * The diceroll of the player's next turn is a node of its own, which holds the moves of
+	 * that turn. The root is the diceroll of the current turn.
+	 */
+	private static class Node {
+
+		final AIMove move; // null for the dicerolls and the buy decisions
+		final boolean buys;
+		final ArrayList<Node> children = new ArrayList<Node>(); // The moves, if this is a diceroll
+		Node[] buy; // Not buying and buying, if the player could buy a token after this move
+		Node[] rolls; // The dicerolls of the player's next turn
+		int visits;
+		int available; // How many times the decision could have been chosen
+		double wins;
+		double squares; // The sum of the squared results, for their variance
+		double bias; // Wins given for free, which matter less the more the decision is visited
+
+		Node(AIMove move, boolean buys) {
+			this.move = move;
+			this.buys = buys;
+		}
+
+		Node find(AIMove m) {
+			for (Node child : children) {
+				if (child.is(m)) {
+					return child;
+				}
+			}
+			return null;
+		}
+
+		// Adds the statistics of the same decision in another tree (and the decision whether to buy after it)
+		void add(Node other) {
+			if (other == null) {
+				return;
+			}
+			visits += other.visits;
+			wins += other.wins;
+			squares += other.squares;
+			if (other.buy != null) {
+				if (buy == null) {
+					buy = new Node[] {new Node(null, false), new Node(null, true)};
+				}
+				buy[0].add(other.buy[0]);
+				buy[1].add(other.buy[1]);
+			}
+		}
+
+		// Is the average result of this decision higher than that of the other one, beyond the noise?
+		boolean beats(Node other) {
+			if (visits < 2 || other.visits < 2) {
+				return false;
+			}
+			double mean = wins / visits;
+			double otherMean = other.wins / other.visits;
+			double error = (squares / visits - mean * mean) / visits + (other.squares / other.visits - otherMean * otherMean) / other.visits;
+			return mean - otherMean > CONFIDENCE * Math.sqrt(Math.max(0, error));
+		}
+
+		Node roll(int dice) {
+			if (rolls == null) {
+				rolls = new Node[MoveTable.MAX_DICE];
+			}
+			if (rolls[dice - 1] == null) {
+				rolls[dice - 1] = new Node(null, false);
+			}
+			return rolls[dice - 1];
+		}
+
+		boolean is(AIMove m) {
+			return move.getType() == m.getType() && move.getDestination() == m.getDestination() && move.getPort() == m.getPort();
+		}
+
+		double uct() {
+			return (wins + bias) / visits + EXPLORATION * Math.sqrt(Math.log(available) / visits);
+		}
+	}
+
+	/**
+	 * One tree and everything needed to grow it. Every thread needs one of its own.
+	 */
+	private class Tree {
+
+		private final GameRandom random; // For the decisions of the tree
+		private GameRandom world; // For the tokens and the dice of the current playout
+		private final HeuristicStrategy policy = new HeuristicStrategy(engine, distances); // Keeps work memory, so it can't be shared
+		private final ArrayList<Node> path = new ArrayList<Node>();
+		private final ArrayList<Node> untried = new ArrayList<Node>();
+		private final int[] cities = new int[Long.SIZE];
+		private final Token[] kinds = new Token[Long.SIZE];
+		private GameState s;
+
+		Tree(GameRandom random) {
+			this.random = random;
+		}
+
+		// Grows a tree for the given moves. The move the HeuristicStrategy would make gets a head start.
+		Node grow(GameState root, int dice, AIMove[] actions, AIMove usual, long deadline) {
+			Node tree = new Node(null, false);
+			for (AIMove move : actions) {
+				tree.children.add(new Node(move, false));
+			}
+			Node preferred = tree.find(usual);
+			if (preferred != null) {
+				preferred.bias = BIAS;
+			}
+			s = new GameState(root);
+			long seed = random.nextLong();
+			// Don't start a playout that might not be over by the deadline. The longest one so far is the
+			// measure, since the thread may lose the processor for longer than a playout takes.
+			long longest = 0;
+			for (int i = 0 ; i < actions.length || deadline - System.nanoTime() > longest ; i++) {
+				long start = System.nanoTime();
+				s.copyFrom(root);
+				// The n:th playout of every move is played with the same tokens and dice, so that the moves
+				// are compared under the same luck
+				Node first = selectRoot(tree);
+				world = new GameRandom(seed + first.visits * 0x9E3779B97F4A7C15L);
+				determinize();
+				playout(tree, first, dice);
+				longest = Math.max(longest, System.nanoTime() - start);
+			}
+			return tree;
+		}
+
+		// Deals out the kinds of token still unopened among their cities at random. The kinds are counted
+		// from the tokens already opened, so nothing is read from under the unopened ones.
+		private void determinize() {
+			int n = 0;
+			for (long tokens = s.getTokens() ; tokens != 0 ; tokens &= tokens - 1) {
+				cities[n++] = board.getCity(Long.numberOfTrailingZeros(tokens));
+			}
+			Token[] all = Token.values();
+			int[] left = new int[all.length];
+			for (Token t : all) {
+				left[t.ordinal()] = t.count();
+			}
+			for (int city = 0 ; city < board.getCityCount() ; city++) {
+				Token opened = s.getOpenedToken(board.getCity(city));
+				if (opened != null) {
+					left[opened.ordinal()]--;
+				}
+			}
+			int k = 0;
+			for (int t = 0 ; t < all.length ; t++) {
+				for (int i = 0 ; i < left[t] && k < n ; i++) {
+					kinds[k++] = all[t];
+				}
+			}
+			for (int i = n - 1 ; i > 0 ; i--) {
+				int j = world.nextInt(i + 1);
+				Token temp = kinds[i];
+				kinds[i] = kinds[j];
+				kinds[j] = temp;
+			}
+			for (int i = 0 ; i < n ; i++) {
+				s.setToken(cities[i], kinds[i]);
+			}
+		}
+
+		// Plays one game to the end, growing the tree by one decision, and records the result along the path
+		private void playout(Node tree, Node first, int dice) {
+			int me = s.getTurn();
+			Node child = first;
+			path.clear();
+			path.add(tree);
+			while (true) {
+				path.add(child);
+				boolean inTree = child.visits > 0;
+				boolean canBuy;
+				if (child.move.getType() == AIMove.ROLL_FOR_TOKEN) {
+					engine.rollForToken(s, dice);
+					canBuy = false;
+				}
+				else {
+					boolean moved = !s.hasFoundTheStar(me);
+					canBuy = engine.makeMove(s, child.move) && moved && !s.isGameOver() && engine.canBuyToken(s);
+				}
+				Node node = child;
+				if (canBuy) {
+					if (!inTree) {
+						if (policy.wantsToken(s)) {
+							engine.buyToken(s);
+						}
+					}
+					else {
+						node = selectBuy(child, policy.wantsToken(s));
+						path.add(node);
+						inTree = node.visits > 0;
+						if (node.buys) {
+							engine.buyToken(s);
+						}
+					}
+				}
+				if (!s.isGameOver()) {
+					engine.endTurn(s);
+				}
+				dice = inTree ? advance(me) : 0;
+				if (dice == 0) {
+					break;
+				}
+				node = node.roll(dice);
+				path.add(node);
+				child = select(node, engine.listMoves(s, dice), dice);
+			}
+			for (int turns = PLAYOUT_ROUNDS * s.getPlayerCount() ; !s.isGameOver() && turns > 0 ; turns--) {
+				Simulator.playTurn(engine, s, policy, world.rollDice());
+				if (!s.isGameOver()) {
+					engine.endTurn(s);
+				}
+			}
+			double result = evaluator.winChance(s, me);
+			for (Node n : path) {
+				n.visits++;
+				n.wins += result;
+				n.squares += result * result;
+			}
+		}
+
+		// Picks one of the moves at the root, trying every move once before UCT takes over
+		private Node selectRoot(Node tree) {
+			Node best = null;
+			double bestValue = Double.NEGATIVE_INFINITY;
+			untried.clear();
+			for (Node child : tree.children) {
+				child.available++;
+				if (child.visits == 0) {
+					untried.add(child);
+				}
+				else if (child.uct() > bestValue) {
+					bestValue = child.uct();
+					best = child;
+				}
+			}
+			return untried.isEmpty() ? best : untried.get(random.nextInt(untried.size()));
+		}
+
+		/**
+		 * Picks one of the moves available deeper in the tree. A node starts out with only the
+		 * move the HeuristicStrategy would make, and lets in more moves, picked at random, as
+		 * its visits grow. Otherwise the value of a position would be that of playing it at
+		 * random until every move has been tried.
+		 */
+		private Node select(Node node, AIMove[] moves, int dice) {
+			Node best = null;
+			double bestValue = Double.NEGATIVE_INFINITY;
+			int tried = 0;
+			untried.clear();
+			for (AIMove move : moves) {
+				Node child = node.find(move);
+				if (child == null) {
+					untried.add(new Node(move, false));
+					continue;
+				}
+				tried++;
+				child.available++;
+				if (child.uct() > bestValue) {
+					bestValue = child.uct();
+					best = child;
+				}
+			}
+			if (!untried.isEmpty() && tried < 1 + (int)Math.sqrt(node.visits) / 2) {
+				Node child = null;
+				if (tried == 0) {
+					AIMove usual = policy.chooseMove(s, dice);
+					for (Node n : untried) {
+						if (n.is(usual)) {
+							child = n;
+						}
+					}
+				}
+				if (child == null) {
+					child = untried.get(random.nextInt(untried.size()));
+				}
+				child.available++;
+				node.children.add(child);
+				return child;
+			}
+			return best;
+		}
+
+		// Picks between buying the token and not buying it. What the HeuristicStrategy would do is tried first, and gets a head start.
+		private Node selectBuy(Node node, boolean usual) {
+			if (node.buy == null) {
+				node.buy = new Node[] {new Node(null, false), new Node(null, true)};
+				node.buy[usual ? 1 : 0].bias = BIAS;
+			}
+			Node first = node.buy[usual ? 1 : 0];
+			Node second = node.buy[usual ? 0 : 1];
+			first.available++;
+			second.available++;
+			if (first.visits == 0) {
+				return first;
+			}
+			if (second.visits == 0) {
+				return node.visits >= 4 ? second : first;
+			}
+			return first.uct() > second.uct() ? first : second;
+		}
+
+		// Plays the turns until the searching player has a decision to make. Returns his diceroll, or 0 if the game is over.
+		private int advance(int me) {
+			while (!s.isGameOver()) {
+				int dice = world.rollDice();
+				if (s.getTurn() != me) {
+					Simulator.playTurn(engine, s, policy, dice);
+				}
+				else if (!engine.serveSlaveTurn(s) && engine.escape(s, dice)) {
+					if (s.getLockedDestination(me) < 0) {
+						return dice;
+					}
+					// At sea there's nothing to decide but whether to buy a token on arrival
+					engine.move(s, engine.getMoveOptions(s, engine.getSteps(s, dice))[0]);
+					if (policy.wantsToken(s)) {
+						engine.buyToken(s);
+					}
+				}
+				if (!s.isGameOver()) {
+					engine.endTurn(s);
+				}
+			}
+			return 0;
+		}
+	}
+
+	// Grows one tree in a thread of the pool
+	private static class TreeTask implements Callable<Node> {
+
+		private final Tree tree;
+		private final GameState root;
+		private final int dice;
+		private final AIMove[] actions;
+		private final AIMove usual;
+		private final long deadline;
+
+		TreeTask(Tree tree, GameState root, int dice, AIMove[] actions, AIMove usual, long deadline) {
+			this.tree = tree;
+			this.root = root;
+			this.dice = dice;
+			this.actions = actions;
+			this.usual = usual;
+			this.deadline = deadline;
+		}
+
+		public Node call() {
+			return tree.grow(root, dice, actions, usual, deadline);
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.Arrays;
+
+/**
+ * This class holds every move by land that a diceroll allows, computed once when the
+ * board is loaded. For each place and each roll of the dice it lists the places where the
+ * player may land (all places exactly that many steps away, and the cities and starting
+ * points on the way), together with the route the gamepiece takes to get there. Looking
+ * up the move options is then just reading a slice of an array.
+ * </p>
+ * The options of place <code>p</code> and roll <code>d</code> are
+ * <code>landings[offsets[i]]..landings[offsets[i+1]-1]</code>, where
+ * <code>i = p * MAX_DICE + d - 1</code>. They are listed in the order a breadth first
+ * search finds them, so nearer places come first. The route to each landing is the route
+ * along which that search found it.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class MoveTable {
+
+	public static final int MAX_DICE = 6;
+	private final int size;
+	private final int[] offsets;
+	private final int[] landings;
+	private final int[] pathStart; // Indexed like landings. The route is paths[pathStart[e]] and on
+	private final byte[] pathLength; // The number of places on the route, both ends included
+	private final int[] paths;
+
+	/**
+	 * Computes the moves of a board.
+	 *
+	 * @param board	the board
+	 */
+	public MoveTable(BoardGraph board) {
+		size = board.size();
+		int[] landOffsets = board.getOffsets(BoardGraph.LAND);
+		int[] landTargets = board.getTargets(BoardGraph.LAND);
+		int[] distance = new int[size];
+		int[] parent = new int[size];
+		int[] queue = new int[size];
+		int[] pathOf = new int[size]; // The start of the route to each place found from the current origin
+		offsets = new int[size * MAX_DICE + 1];
+		int[] landing = new int[size * MAX_DICE];
+		int[] start = new int[landing.length];
+		byte[] length = new byte[landing.length];
+		int[] path = new int[size * MAX_DICE];
+		int entries = 0;
+		int pathSize = 0;
+		Arrays.fill(distance, -1);
+		for (int origin = 0 ; origin < size ; origin++) {
+			// Find everything within MAX_DICE steps
+			int tail = 0;
+			distance[origin] = 0;
+			parent[origin] = -1;
+			queue[tail++] = origin;
+			for (int head = 0 ; head < tail ; head++) {
+				int p = queue[head];
+				if (distance[p] == MAX_DICE) {
+					continue;
+				}
+				for (int e = landOffsets[p] ; e < landOffsets[p + 1] ; e++) {
+					int q = landTargets[e];
+					if (distance[q] < 0) {
+						distance[q] = distance[p] + 1;
+						parent[q] = p;
+						queue[tail++] = q;
+					}
+				}
+			}
+
+			// Store the routes
+			for (int k = 1 ; k < tail ; k++) {
+				int q = queue[k];
+				if (pathSize + distance[q] + 1 > path.length) {
+					path = Arrays.copyOf(path, 2 * path.length);
+				}
+				pathOf[q] = pathSize;
+				pathSize += distance[q] + 1;
+				for (int p = q, i = pathSize - 1 ; p >= 0 ; p = parent[p], i--) {
+					path[i] = p;
+				}
+			}
+
+			// And the landings of each roll
+			for (int dice = 1 ; dice <= MAX_DICE ; dice++) {
+				offsets[origin * MAX_DICE + dice - 1] = entries;
+				for (int k = 1 ; k < tail && distance[queue[k]] <= dice ; k++) {
+					int q = queue[k];
+					Place place = board.getPlace(q);
+					if (distance[q] == dice || place.isCity() || place.isStart()) {
+						if (entries == landing.length) {
+							landing = Arrays.copyOf(landing, 2 * landing.length);
+							start = Arrays.copyOf(start, landing.length);
+							length = Arrays.copyOf(length, landing.length);
+						}
+						landing[entries] = q;
+						start[entries] = pathOf[q];
+						length[entries] = (byte)(distance[q] + 1);
+						entries++;
+					}
+				}
+			}
+			for (int k = 0 ; k < tail ; k++) {
+				distance[queue[k]] = -1;
+			}
+		}
+		offsets[size * MAX_DICE] = entries;
+		landings = Arrays.copyOf(landing, entries);
+		pathStart = Arrays.copyOf(start, entries);
+		pathLength = Arrays.copyOf(length, entries);
+		paths = Arrays.copyOf(path, pathSize);
+	}
+
+	private int index(int place, int dice) {
+		if (dice < 1 || dice > MAX_DICE) {
+			throw new IllegalArgumentException("Can't move " + dice + " steps by land.");
+		}
+		return place * MAX_DICE + dice - 1;
+	}
+
+	/**
+	 * @param place	the id of the place the player is at
+	 * @param dice	the value of the diceroll
+	 * @return		the number of places the player may move to
+	 */
+	public int getOptionCount(int place, int dice) {
+		int i = index(place, dice);
+		return offsets[i + 1] - offsets[i];
+	}
+
+	/**
+	 * @param place	the id of the place the player is at
+	 * @param dice	the value of the diceroll
+	 * @param i		the index of the option, 0 <= i < getOptionCount(place, dice)
+	 * @return		the id of the i:th place the player may move to
+	 */
+	public int getOption(int place, int dice, int i) {
+		return landings[offsets[index(place, dice)] + i];
+	}
+
+	/**
+	 * Returns the move options as a new array.
+	 *
+	 * @param place	the id of the place the player is at
+	 * @param dice	the value of the diceroll
+	 * @return		the ids of the places the player may move to
+	 */
+	public int[] getOptions(int place, int dice) {
+		int i = index(place, dice);
+		return Arrays.copyOfRange(landings, offsets[i], offsets[i + 1]);
+	}
+
+	/**
+	 * Returns the route the gamepiece takes when moving by land from one place to another.
+	 *
+	 * @param from	the id of the place where the move starts
+	 * @param to	the id of the destination
+	 * @return		the ids of the places on the route, both ends included, or <code>null</code>
+	 * 				if the destination can't be reached with any diceroll
+	 */
+	public int[] getPath(int from, int to) {
+		for (int e = offsets[from * MAX_DICE] ; e < offsets[(from + 1) * MAX_DICE] ; e++) {
+			if (landings[e] == to) {
+				return Arrays.copyOfRange(paths, pathStart[e], pathStart[e] + pathLength[e]);
+			}
+		}
+		return null;
+	}
+}
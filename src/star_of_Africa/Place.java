@@ -18,13 +18,13 @@
 
 package star_of_Africa;
 
-import java.util.HashSet;
 import java.util.ArrayList;	/**/
 
 /**
  * This class represents any place on the map where it is possible to move
- * a gamepiece. Every place also keeps track of which other places it is
- * connected to, and how.
+ * a gamepiece. The connections between places are collected with the
+ * setConnectedBy*-methods while the map is being set up, after which they are
+ * handed over to a BoardGraph, and looked up from there using the place's id.
  * 
  * @author Daniel Suni
  * @version 1.0.0
@@ -33,14 +33,14 @@ public class Place {
 	
 	private int x;
 	private int y;
-	private HashSet<Place> connectedByLand = new HashSet<Place>();
-	private HashSet<Place> connectedBySea = new HashSet<Place>();
-	private HashSet<Place> connectedByAir = new HashSet<Place>();
-	private ArrayList<Place> routeTo = new ArrayList<Place>();	/*To store the route to this place*/
+	private int id = -1; // Assigned by the BoardGraph
+	private BoardGraph graph;
+	private ArrayList<Place> connectedByLand = new ArrayList<Place>(); // Only used until the BoardGraph has been built
+	private ArrayList<Place> connectedBySea = new ArrayList<Place>();
+	private ArrayList<Place> connectedByAir = new ArrayList<Place>();
 	private boolean city;  // Is this a city or not?
 	private boolean start; // Is this a starting point or not?
 	private boolean hostile; // True for the special places near St. Helena and Sahara, where the player can be captured
-	private Token token;  // The token for this place. If empty or not a city, this value is null.
 	private String name = ""; // Only cities and starting points have names.
 	
 	/**
@@ -59,49 +59,34 @@ public class Place {
 		hostile = false;
 	}
 
-	/**Return a copy of the route to this place*/
-	public ArrayList<Place> getRouteTo(){
-		ArrayList<Place> route = new ArrayList<Place>();
-		for (int i = 0;i<routeTo.size();++i){
-			route.add(routeTo.get(i));
-		}
-		return route;
-	}
-	
-	/**Set the route to this place*/
-	public void setRouteTo(ArrayList<Place> arr){
-		routeTo = arr;
+	public int getId() {
+		return id;
 	}
 	
-	/**Reset the route to this place*/
-	public void resetRoute(){
-		routeTo.clear();
+	public BoardGraph getGraph() {
+		return graph;
 	}
 	
-	/**Append to the route to this place*/
-	public void appendRouteTo(Place place){
-		routeTo.add(place);
+	void setGraph(BoardGraph graph, int id) {
+		this.graph = graph;
+		this.id = id;
 	}
 	
-	/**Print the route to this place*/
-	public void printRouteTo(){
-		for (int r = 0;r<routeTo.size();++r){
-			System.out.print("X "+routeTo.get(r).getX()+" Y "+routeTo.get(r).getY()+" ");
+	ArrayList<Place> getPendingConnections(int mode) {
+		switch (mode) {
+		case BoardGraph.LAND:
+			return connectedByLand;
+		case BoardGraph.SEA:
+			return connectedBySea;
+		default:
+			return connectedByAir;
 		}
-		System.out.println("");
-	}
-
-
-	public HashSet<Place> getConnectedByLand() {
-		return connectedByLand;
-	}
-	
-	public HashSet<Place> getConnectedBySea() {
-		return connectedBySea;
 	}
 	
-	public HashSet<Place> getConnectedByAir() {
-		return connectedByAir;
+	void clearPendingConnections() {
+		connectedByLand = null;
+		connectedBySea = null;
+		connectedByAir = null;
 	}
 	
 	public boolean isCity() {
@@ -128,24 +113,22 @@ public class Place {
 		return name;
 	}
 	
-	public Token getToken() {
-		return token;
-	}
-	
 	public void setConnectedByLand(Place place) {
-		connectedByLand.add(place);
+		if (!connectedByLand.contains(place)) {
+			connectedByLand.add(place);
+		}
 	}
 	
 	public void setConnectedBySea(Place place) {
-		connectedBySea.add(place);
+		if (!connectedBySea.contains(place)) {
+			connectedBySea.add(place);
+		}
 	}
 	
 	public void setConnectedByAir(Place place) {
-		connectedByAir.add(place);
-	}
-	
-	public void setToken(Token token) {
-		this.token = token;
+		if (!connectedByAir.contains(place)) {
+			connectedByAir.add(place);
+		}
 	}
 	
 	public void setName(String name) {
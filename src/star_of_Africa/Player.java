@@ -19,7 +19,10 @@
 package star_of_Africa;
 
 /**
- * This class holds all the information about a player of the game.
+ * This class holds all the information about a player of the game that isn't part of
+ * the game itself - his name, his gamepiece and whether he is human or not. Everything
+ * that changes during a game is stored in a GameState, and this class merely gives a
+ * view of this player's part of it.
  * 
  * @author Daniel Suni
  * @version 1.0.0
@@ -27,17 +30,11 @@ package star_of_Africa;
 public class Player {
 
 	private boolean human;
-	private Place place;
-	private Place lockedDestination; // When seabound for a destination.
-	private boolean boardedNoMoney;	//When seabound without money
 	private boolean tangier;
-	private int money;
-	private boolean hasFoundTheStar;
-	private int turnsLeftAsSlave; // When stuck on Slave Coast - not the same thing as being captured
-	private boolean captured; // When being captured by pirates or beduins
-	private boolean stranded;
 	private String name;
 	private GamePiece gamePiece;
+	private GameState state; // The game the player currently takes part in
+	private int index; // The player's seat in that game
 	
 	/**
 	 * Constructs a player
@@ -52,16 +49,29 @@ public class Player {
 		this.tangier = tangier;
 		this.human = human;
 		this.name = name;
-		money = 300;
-		turnsLeftAsSlave = 0;
-		hasFoundTheStar = false;
-		captured = false;
-		stranded = false;
-		boardedNoMoney = false;
+	}
+	
+	/**
+	 * Binds the player to a game.
+	 * 
+	 * @param state	the state of the game
+	 * @param index	the player's seat in the game
+	 */
+	public void setState(GameState state, int index) {
+		this.state = state;
+		this.index = index;
+	}
+	
+	public GameState getState() {
+		return state;
+	}
+	
+	public int getIndex() {
+		return index;
 	}
 	
 	public boolean isCaptured() {
-		return captured;
+		return state.isCaptured(index);
 	}
 	
 	public boolean isHuman() {
@@ -77,11 +87,11 @@ public class Player {
 	}
 
 	public boolean hasFoundTheStar() {
-		return hasFoundTheStar;
+		return state.hasFoundTheStar(index);
 	}
 	
 	public boolean isStranded() {
-		return stranded;
+		return state.isStranded(index);
 	}
 	
 	public boolean startsAtTangier() {
@@ -89,68 +99,28 @@ public class Player {
 	}
 
 	public int getMoney() {
-		return money;
+		return state.getMoney(index);
 	}
 
 	public Place getPlace() {
-		return place;
+		return state.getBoard().getPlace(state.getPlace(index));
 	}
 
 	public Place getLockedDestination() {
-		return lockedDestination;
+		int destination = state.getLockedDestination(index);
+		return destination < 0 ? null : state.getBoard().getPlace(destination);
 	}
 	
 	public boolean getBoardedNoMoney(){
-		return boardedNoMoney;
-	}
-	
-	public void setBoardedNoMoney(boolean value){
-		boardedNoMoney = value;
+		return state.getBoardedNoMoney(index);
 	}
 	
 	public int getTurnsLeftAsSlave() {
-		return turnsLeftAsSlave;
-	}
-
-	public void setCaptured(boolean captured) {
-		this.captured = captured;
-	}
-
-	public void setHasFoundTheStar() {
-		this.hasFoundTheStar = true;
-	}
-
-	public void setMoney(int money) {
-		this.money = money;
-	}
-
-	public void setPlace(Place place) {
-		this.place = place;
-	}
-	
-	public void resetRoute() {
-		place.resetRoute();
-	}
-
-	public void setTurnsLeftAsSlave(int turnsLeftAsSlave) {
-		this.turnsLeftAsSlave = turnsLeftAsSlave;
-	}
-	
-	public void setStranded() {
-		this.stranded = true;
-	}
-	
-	public void setLockedDestination(Place lockedDestination) {
-		this.lockedDestination = lockedDestination;
+		return state.getTurnsLeftAsSlave(index);
 	}
 	
 	// For restarting the game with the same players.
 	public void reset() {
-		this.captured = false;
-		this.hasFoundTheStar = false;
-		this.lockedDestination = null;
-		this.money = 300;
-		this.stranded = false;
-		this.turnsLeftAsSlave = 0;
+		state = null;
 	}
 }
@@ -0,0 +1,587 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package star_of_Africa;
+
+import java.util.ArrayList;
+
+/**
+ * This class knows the rules of the game. Every action a player can take is a method
+ * that changes a GameState, and the methods that can trigger special events return them
+ * as a combination of the event flags below, so that the caller (the GUI, or a
+ * simulation) can decide how to present them. The class doesn't hold any game specific
+ * data itself, so one instance can be shared by any number of games on the same board.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class RulesEngine {
+
+	// Events
+	public static final int CAPTURED = 1;
+	public static final int CAPETOWN_BONUS = 2;
+	public static final int GAME_WON = 4;
+	public static final int GAME_UNWINNABLE = 8;
+	public static final int HORSESHOE_AS_STAR = 16;
+	public static final int ENSLAVED = 32;
+	public static final int STRANDED = 64;
+	public static final int TOKEN_OPENED = 128;
+
+	// Prices and dice limits
+	public static final int SHIP_FARE = 100;
+	public static final int FLIGHT_FARE = 300;
+	public static final int TOKEN_PRICE = 100;
+	public static final int CAPETOWN_REWARD = 500;
+	public static final int TOKEN_ROLL = 4; // Minimum roll needed to get a token for free
+	public static final int ESCAPE_ROLL = 2; // Maximum roll that frees a captured player
+	public static final int UNPAID_VOYAGE_STEPS = 2;
+	public static final int SLAVE_TURNS = 3;
+	public static final int GOLD_COAST_BONUS = 2; // Gems found at Gold Coast are worth this many times their value
+
+	private final BoardGraph board;
+	private final int tangier, cairo, goldCoast, slaveCoast, capetown;
+	private final boolean[] island; // Canary Islands, St. Helena and Madagascar
+	private final long islandCities; // The cities on the islands, as a GameState token mask
+	private final boolean[] port; // Cities and starting points
+	private final MoveTable moves;
+	private final SeaLanes lanes;
+	private final TurnTable turns;
+
+	/**
+	 * Sets up the rules of a board, solving its turn tables unless they've been cached.
+	 *
+	 * @param board	the board
+	 */
+	public RulesEngine(BoardGraph board) {
+		this(board, null);
+	}
+
+	/**
+	 * Sets up the rules of a board.
+	 *
+	 * @param board		the board
+	 * @param turnTable	the file or resource name of the turn tables of the board, or <code>null</code>
+	 */
+	public RulesEngine(BoardGraph board, String turnTable) {
+		this.board = board;
+		tangier = find("Tangier");
+		cairo = find("Cairo");
+		goldCoast = find("Gold Coast");
+		slaveCoast = find("Slave Coast");
+		capetown = find("Capetown");
+		island = new boolean[board.size()];
+		port = new boolean[board.size()];
+		for (int i = 0 ; i < board.size() ; i++) {
+			Place p = board.getPlace(i);
+			island[i] = p.getName().equals("Canary Islands") || p.getName().equals("St. Helena")
+					|| (p.getX() >= 1447 && p.getY() >= 1738);
+			port[i] = p.isCity() || p.isStart();
+		}
+		long mask = 0;
+		for (int c = 0 ; c < board.getCityCount() ; c++) {
+			if (island[board.getCity(c)]) {
+				mask |= 1L << c;
+			}
+		}
+		islandCities = mask;
+		moves = new MoveTable(board);
+		lanes = new SeaLanes(board);
+		turns = TurnTable.load(board, moves, lanes, turnTable);
+	}
+
+	// Finds a place by its name
+	private int find(String name) {
+		for (int i = 0 ; i < board.size() ; i++) {
+			if (board.getPlace(i).getName().equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("There is no " + name + " on the board.");
+	}
+
+	public BoardGraph getBoard() {
+		return board;
+	}
+
+	/**
+	 * @return	the id of Gold Coast, where gems are worth double
+	 */
+	public int getGoldCoast() {
+		return goldCoast;
+	}
+
+	/**
+	 * @return	the id of Slave Coast, where a blank makes the player a slave
+	 */
+	public int getSlaveCoast() {
+		return slaveCoast;
+	}
+
+	/**
+	 * @return	the moves by land of every diceroll
+	 */
+	public MoveTable getMoveTable() {
+		return moves;
+	}
+
+	/**
+	 * @return	the sea lanes between the ports
+	 */
+	public SeaLanes getSeaLanes() {
+		return lanes;
+	}
+
+	/**
+	 * @return	the expected turns it takes to get anywhere
+	 */
+	public TurnTable getTurnTable() {
+		return turns;
+	}
+
+	public int getTangier() {
+		return tangier;
+	}
+
+	public int getCairo() {
+		return cairo;
+	}
+
+	/**
+	 * Sets up a new game without tokens.
+	 *
+	 * @param startsAtTangier	for each player, does he start at Tangier? <code>false</code> == Cairo.
+	 * @return					the state of the new game
+	 */
+	public GameState newGame(boolean[] startsAtTangier) {
+		int[] start = new int[startsAtTangier.length];
+		for (int i = 0 ; i < start.length ; i++) {
+			start[i] = startsAtTangier[i] ? tangier : cairo;
+		}
+		return new GameState(board, startsAtTangier, start);
+	}
+
+	/**
+	 * Initializes the tokens. Creates the correct number of each token,
+	 * shuffles them, and places them on the cities.
+	 *
+	 * @param s			the state of a new game
+	 * @param random	the random generator of the game
+	 */
+	public void setupTokens(GameState s, GameRandom random) {
+		Token[] tokens = new Token[Token.total()];
+		int count = 0;
+		for (Token t : Token.values()) {
+			for (int j = 0 ; j < t.count() ; j++) {
+				tokens[count++] = t;
+			}
+		}
+
+		// Shuffle the tokens
+		random.shuffle(tokens);
+
+		// Place the tokens on the cities
+		for (int i = 0 ; i < board.getCityCount() ; i++) {
+			s.setToken(board.getCity(i), tokens[i]);
+		}
+	}
+
+	/**
+	 * Serves one of the turns a player has to spend at Slave Coast.
+	 *
+	 * @param s	the state of the game
+	 * @return	<code>true</code> if the player in turn is stuck and can't do anything this turn
+	 */
+	public boolean serveSlaveTurn(GameState s) {
+		int turn = s.getTurn();
+		if (s.getTurnsLeftAsSlave(turn) > 0) {
+			s.setTurnsLeftAsSlave(turn, s.getTurnsLeftAsSlave(turn) - 1);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Lets a captured player try to escape from pirates or beduins.
+	 *
+	 * @param s		the state of the game
+	 * @param dice	the value of the diceroll
+	 * @return		<code>true</code> if the player in turn is free to move
+	 */
+	public boolean escape(GameState s, int dice) {
+		int turn = s.getTurn();
+		if (s.isCaptured(turn)) {
+			if (dice > ESCAPE_ROLL) {
+				return false;
+			}
+			s.setCaptured(turn, false);
+		}
+		return true;
+	}
+
+	/**
+	 * @return	<code>true</code> if the player in turn has to roll the dice to move. A player on an unpaid
+	 * 			voyage moves a fixed number of steps instead.
+	 */
+	public boolean mustRoll(GameState s) {
+		return !s.getBoardedNoMoney(s.getTurn());
+	}
+
+	/**
+	 * Returns the number of steps the player in turn may move with a certain roll.
+	 *
+	 * @param s		the state of the game
+	 * @param dice	the value of the diceroll
+	 */
+	public int getSteps(GameState s, int dice) {
+		return mustRoll(s) ? dice : UNPAID_VOYAGE_STEPS;
+	}
+
+	/**
+	 * Calculates all possible places where the player in turn may move. By land the player must
+	 * use up all the steps, except that he may stop at any city or starting point on the way.
+	 * At sea there is only one option, the place the steps take him to along his sea route.
+	 * The options by land come from the MoveTable, where they can also be read without
+	 * creating an array.
+	 *
+	 * @param s		the state of the game
+	 * @param steps	the number of steps
+	 * @return		the ids of the places
+	 */
+	public int[] getMoveOptions(GameState s, int steps) {
+		int turn = s.getTurn();
+		int origin = s.getPlace(turn);
+		if (s.getLockedDestination(turn) >= 0) {
+			int lane = findLane(s);
+			return new int[] {lanes.getTile(origin, lane, Math.min(steps, lanes.getSteps(origin, lane)))};
+		}
+		return moves.getOptions(origin, steps);
+	}
+
+	/**
+	 * Finds the sea route between the position of the player in turn, and his destination.
+	 *
+	 * @return	the ids of the places on the route, starting with the player's position
+	 */
+	public int[] getSeaRoute(GameState s) {
+		return lanes.getRoute(s.getPlace(s.getTurn()), findLane(s));
+	}
+
+	// Finds the lane the seabound player in turn is sailing along
+	private int findLane(GameState s) {
+		int lane = lanes.find(s.getPlace(s.getTurn()), s.getLockedDestination(s.getTurn()));
+		if (lane < 0) {
+			throw new IllegalStateException("The player's ship has lost its way.");
+		}
+		return lane;
+	}
+
+	/**
+	 * Updates the state when the player in turn moves (by land, sea or air). Also
+	 * conducts the checks for special events that may occur after a move.
+	 *
+	 * @param s				the state of the game
+	 * @param destination	the destination of the move
+	 * @return				the events caused by the move
+	 */
+	public int move(GameState s, int destination) {
+		int turn = s.getTurn();
+		int events = 0;
+		s.setPlace(turn, destination);
+		// Was it a tile that got the player captured?
+		if (board.getPlace(destination).isHostile()) {
+			s.setCaptured(turn, true);
+			events |= CAPTURED;
+		}
+		// Was the player the first to arrive at Capetown?
+		if (!s.capetownHasBeenVisited() && destination == capetown) {
+			s.setMoney(turn, s.getMoney(turn) + CAPETOWN_REWARD);
+			s.setCapetownHasBeenVisited();
+			events |= CAPETOWN_BONUS;
+		}
+		// Did the player arrive at the end of a sea route?
+		if (destination == s.getLockedDestination(turn)) {
+			s.setLockedDestination(turn, -1);
+		}
+		// Did the player win?
+		if (s.hasFoundTheStar(turn) && board.getPlace(destination).isStart()) {
+			s.setGameOver(turn);
+			events |= GAME_WON;
+		}
+		return events;
+	}
+
+	/**
+	 * @return	the ports that the player in turn can sail to from his current position
+	 */
+	public int[] getShipDestinations(GameState s) {
+		return lanes.getDestinations(s.getPlace(s.getTurn()));
+	}
+
+	/**
+	 * @param paid	does the player pay for the voyage, or use the free passage?
+	 * @return		<code>true</code> if the player in turn may board a ship
+	 */
+	public boolean canBoardShip(GameState s, boolean paid) {
+		int turn = s.getTurn();
+		return board.getDegree(s.getPlace(turn), BoardGraph.SEA) > 0 && s.getLockedDestination(turn) < 0
+				&& (!paid || s.getMoney(turn) >= SHIP_FARE);
+	}
+
+	/**
+	 * Boards a ship bound for the given port.
+	 *
+	 * @param s				the state of the game
+	 * @param destination	the port
+	 * @param paid			<code>true</code> for a paid voyage, <code>false</code> for a free one, where
+	 * 						the player advances a fixed number of steps per turn
+	 */
+	public void boardShip(GameState s, int destination, boolean paid) {
+		int turn = s.getTurn();
+		if (paid) {
+			s.setMoney(turn, s.getMoney(turn) - SHIP_FARE);
+		}
+		else {
+			s.setBoardedNoMoney(turn, true);
+		}
+		s.setLockedDestination(turn, destination);
+	}
+
+	/**
+	 * @return	<code>true</code> if the player in turn may board a plane
+	 */
+	public boolean canFly(GameState s) {
+		int turn = s.getTurn();
+		return board.getDegree(s.getPlace(turn), BoardGraph.AIR) > 0 && s.getMoney(turn) >= FLIGHT_FARE;
+	}
+
+	/**
+	 * Flies the player in turn to the given city.
+	 *
+	 * @return	the events caused by the move
+	 */
+	public int fly(GameState s, int destination) {
+		s.setMoney(s.getTurn(), s.getMoney(s.getTurn()) - FLIGHT_FARE);
+		return move(s, destination);
+	}
+
+	/**
+	 * Lists everything the player in turn can do with a diceroll, when he's neither at sea
+	 * nor prevented from moving: rolling for the token he's standing on, walking, sailing
+	 * (paid or free) towards every port he can reach, and flying. If there's nothing else
+	 * to do, the only move is <code>STAY</code>.
+	 *
+	 * @param s		the state of the game
+	 * @param dice	the value of the diceroll
+	 * @return		the moves, rolling for a token first if it's possible
+	 */
+	public AIMove[] listMoves(GameState s, int dice) {
+		ArrayList<AIMove> list = new ArrayList<AIMove>();
+		int here = s.getPlace(s.getTurn());
+		if (s.hasToken(here)) {
+			list.add(new AIMove(AIMove.ROLL_FOR_TOKEN, -1, -1));
+		}
+		for (int i = 0 ; i < moves.getOptionCount(here, dice) ; i++) {
+			list.add(new AIMove(AIMove.WALK, -1, moves.getOption(here, dice, i)));
+		}
+		if (canBoardShip(s, false)) {
+			boolean paid = canBoardShip(s, true);
+			for (int i = 0 ; i < lanes.getLaneCount(here) ; i++) {
+				int port = lanes.getDestination(here, i);
+				int steps = lanes.getSteps(here, i);
+				if (paid) {
+					list.add(new AIMove(AIMove.SAIL, port, lanes.getTile(here, i, Math.min(dice, steps))));
+				}
+				list.add(new AIMove(AIMove.SAIL_UNPAID, port, lanes.getTile(here, i, Math.min(UNPAID_VOYAGE_STEPS, steps))));
+			}
+		}
+		if (canFly(s)) {
+			for (int i = 0 ; i < board.getDegree(here, BoardGraph.AIR) ; i++) {
+				list.add(new AIMove(AIMove.FLY, -1, board.getNeighbor(here, BoardGraph.AIR, i)));
+			}
+		}
+		if (list.isEmpty()) {
+			list.add(new AIMove(AIMove.STAY, -1, -1));
+		}
+		return list.toArray(new AIMove[list.size()]);
+	}
+
+	/**
+	 * Makes a move chosen by an AI player for the player in turn. Rolling for a token is left
+	 * to the caller, since it depends on the diceroll.
+	 *
+	 * @param s		the state of the game
+	 * @param move	the move, as listed by <code>listMoves</code>
+	 * @return		<code>true</code> if the player moved, otherwise <code>false</code>
+	 */
+	public boolean makeMove(GameState s, AIMove move) {
+		switch (move.getType()) {
+		case AIMove.STAY:
+		case AIMove.ROLL_FOR_TOKEN:
+			return false;
+		case AIMove.FLY:
+			fly(s, move.getDestination());
+			return true;
+		case AIMove.SAIL:
+		case AIMove.SAIL_UNPAID:
+			boardShip(s, move.getPort(), move.getType() == AIMove.SAIL);
+			// The player moves on the same turn
+			move(s, move.getDestination());
+			return true;
+		default:
+			move(s, move.getDestination());
+			return true;
+		}
+	}
+
+	/**
+	 * @return	<code>true</code> if the player in turn may buy the token at his location
+	 */
+	public boolean canBuyToken(GameState s) {
+		int turn = s.getTurn();
+		return s.hasToken(s.getPlace(turn)) && s.getMoney(turn) >= TOKEN_PRICE;
+	}
+
+	/**
+	 * Buys and opens the token at the location of the player in turn.
+	 *
+	 * @return	the events caused by the token
+	 */
+	public int buyToken(GameState s) {
+		s.setMoney(s.getTurn(), s.getMoney(s.getTurn()) - TOKEN_PRICE);
+		return openToken(s);
+	}
+
+	/**
+	 * Rolls for the token at the location of the player in turn. A high enough roll opens it.
+	 *
+	 * @return	the events caused by the token, or 0 if the roll was too low
+	 */
+	public int rollForToken(GameState s, int dice) {
+		if (dice >= TOKEN_ROLL) {
+			return openToken(s);
+		}
+		return 0;
+	}
+
+	/**
+	 * Opens the token at the location of the player in turn, and applies its effects.
+	 *
+	 * @return	the events caused by the token
+	 */
+	public int openToken(GameState s) {
+		int turn = s.getTurn();
+		int here = s.getPlace(turn);
+		Token token = s.getToken(here);
+		int events = TOKEN_OPENED;
+
+		// Can the player get the Gold Coast bonus?
+		int bonus = 1;
+		if (here == goldCoast) {
+			bonus = GOLD_COAST_BONUS;
+		}
+
+		// Do the money math
+		s.setMoney(turn, Math.max(s.getMoney(turn) + token.monetaryValue() * bonus, 0));
+
+		// Did he find the star?
+		if (token == Token.STAR_OF_AFRICA) {
+			s.setHasFoundTheStar(turn);
+			s.setStarHasBeenFound();
+			// If all the horseshoes are out of the game, the game is already decided
+			if (s.getHorseshoesFound() == 5 && !s.isStranded(turn)) {
+				s.setGameOver(turn);
+				events |= GAME_WON;
+			}
+			if (s.getHorseshoesFound() == 5 && s.isStranded(turn)) {
+				s.setGameOver(-1);
+				events |= GAME_UNWINNABLE;
+			}
+		}
+
+		// Was it a horseshoe?
+		if (token == Token.HORSESHOE) {
+			s.setHorseshoesFound(s.getHorseshoesFound() + 1);
+			// Did he find a horseshoe after the discovery of the star?
+			if (s.starHasBeenFound()) {
+				s.setHasFoundTheStar(turn);
+				events |= HORSESHOE_AS_STAR;
+				// Was it the last one? If so, everyone without either horseshoe or star are out of the game
+				if (s.getHorseshoesFound() == 5) {
+					for (int i = 0 ; i < s.getPlayerCount() ; i++) {
+						if (!s.hasFoundTheStar(i)) {
+							s.setStranded(i);
+							events |= STRANDED;
+						}
+					}
+				}
+			}
+		}
+
+		// Did he draw a blank at Slave Coast?
+		if (here == slaveCoast && token == Token.BLANK) {
+			s.setTurnsLeftAsSlave(turn, SLAVE_TURNS);
+			events |= ENSLAVED;
+		}
+
+		s.setToken(here, null);
+		return events;
+	}
+
+	/**
+	 * Passes the turn to the next player who isn't stranded.
+	 *
+	 * @return	<code>GAME_UNWINNABLE</code> if everybody is stranded, otherwise 0
+	 */
+	public int endTurn(GameState s) {
+		int originalTurn = s.getTurn();
+		int turn = originalTurn;
+		int events = 0;
+		do {
+			turn++;
+			if (turn == s.getPlayerCount()) {
+				turn = 0;
+			}
+			if (turn == originalTurn && s.isStranded(turn)) { // If everybody are stranded the game is unwinnable
+				s.setGameOver(-1);
+				events |= GAME_UNWINNABLE;
+			}
+		} while (s.isStranded(turn) && !s.isGameOver());
+		s.setTurn(turn);
+		s.setBoardedNoMoney(turn, s.getLockedDestination(turn) >= 0);
+		return events;
+	}
+
+	/**
+	 * Checks whether there are only tokens on the islands left.
+	 *
+	 * @return	<code>true</code> if there no longer are any tokens on the mainland,
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean tokensOnlyLeftOnIslands(GameState s) {
+		return (s.getTokens() & ~islandCities) == 0;
+	}
+
+	/**
+	 * Checks whether a player is on an island or not.
+	 *
+	 * @return	<code>true</code> if the player is on an island, otherwise <code>false</code>.
+	 */
+	public boolean playerOnIsland(GameState s, int player) {
+		return island[s.getPlace(player)];
+	}
+}
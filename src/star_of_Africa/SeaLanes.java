@@ -0,0 +1,197 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the sea lanes of the board, computed once when the board is loaded.
+ * A lane is the chain of sea tiles between two ports (cities and starting points); ships
+ * never sail past a port. For every place at sea or in a port the index lists the ports
+ * that can be reached from it, in the order of a breadth first search, together with the
+ * tiles on the way. A ship's next position and the list of ports a player may sail to are
+ * then array lookups.
+ * </p>
+ * The lanes of place <code>p</code> are entries <code>offsets[p]..offsets[p+1]-1</code>,
+ * and the route of entry <code>e</code> is <code>tiles[tileStart[e]]</code> and on,
+ * <code>steps[e] + 1</code> places including both ends.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class SeaLanes {
+
+	private final int[] offsets;
+	private final int[] destinations;
+	private final int[] steps;
+	private final int[] tileStart;
+	private final int[] tiles;
+
+	/**
+	 * Computes the sea lanes of a board.
+	 *
+	 * @param board	the board
+	 */
+	public SeaLanes(BoardGraph board) {
+		int size = board.size();
+		int[] seaOffsets = board.getOffsets(BoardGraph.SEA);
+		int[] seaTargets = board.getTargets(BoardGraph.SEA);
+		int[] parent = new int[size];
+		int[] distance = new int[size];
+		int[] queue = new int[size];
+		offsets = new int[size + 1];
+		int[] destination = new int[size];
+		int[] length = new int[size];
+		int[] start = new int[size];
+		int[] tile = new int[4 * size];
+		int entries = 0;
+		int tileCount = 0;
+		Arrays.fill(parent, -1);
+		for (int origin = 0 ; origin < size ; origin++) {
+			offsets[origin] = entries;
+			if (seaOffsets[origin] == seaOffsets[origin + 1]) {
+				continue;
+			}
+			int tail = 0;
+			parent[origin] = origin;
+			distance[origin] = 0;
+			queue[tail++] = origin;
+			for (int head = 0 ; head < tail ; head++) {
+				int p = queue[head];
+				if (p != origin && isPort(board, p)) {
+					continue; // Ships don't sail past a port
+				}
+				for (int e = seaOffsets[p] ; e < seaOffsets[p + 1] ; e++) {
+					int q = seaTargets[e];
+					if (parent[q] < 0) {
+						parent[q] = p;
+						distance[q] = distance[p] + 1;
+						queue[tail++] = q;
+					}
+				}
+			}
+			for (int k = 1 ; k < tail ; k++) {
+				int q = queue[k];
+				if (!isPort(board, q)) {
+					continue;
+				}
+				if (entries == destination.length) {
+					destination = Arrays.copyOf(destination, 2 * entries);
+					length = Arrays.copyOf(length, 2 * entries);
+					start = Arrays.copyOf(start, 2 * entries);
+				}
+				if (tileCount + distance[q] + 1 > tile.length) {
+					tile = Arrays.copyOf(tile, 2 * tile.length + distance[q] + 1);
+				}
+				destination[entries] = q;
+				length[entries] = distance[q];
+				start[entries] = tileCount;
+				tileCount += distance[q] + 1;
+				for (int p = q, i = tileCount - 1 ; i >= start[entries] ; p = parent[p], i--) {
+					tile[i] = p;
+				}
+				entries++;
+			}
+			for (int k = 0 ; k < tail ; k++) {
+				parent[queue[k]] = -1;
+			}
+		}
+		offsets[size] = entries;
+		destinations = Arrays.copyOf(destination, entries);
+		steps = Arrays.copyOf(length, entries);
+		tileStart = Arrays.copyOf(start, entries);
+		tiles = Arrays.copyOf(tile, tileCount);
+	}
+
+	private static boolean isPort(BoardGraph board, int id) {
+		Place p = board.getPlace(id);
+		return p.isCity() || p.isStart();
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @return		the number of ports that can be reached by ship from the place
+	 */
+	public int getLaneCount(int place) {
+		return offsets[place + 1] - offsets[place];
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @param i		the index of the lane, 0 <= i < getLaneCount(place)
+	 * @return		the port at the end of the lane
+	 */
+	public int getDestination(int place, int i) {
+		return destinations[offsets[place] + i];
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @return		the ports that can be reached by ship from the place, as a new array
+	 */
+	public int[] getDestinations(int place) {
+		return Arrays.copyOfRange(destinations, offsets[place], offsets[place + 1]);
+	}
+
+	/**
+	 * Finds the lane from a place to a port.
+	 *
+	 * @param place			the id of the place
+	 * @param destination	the id of the port
+	 * @return				the index of the lane, or -1 if the port can't be reached by ship
+	 */
+	public int find(int place, int destination) {
+		for (int e = offsets[place] ; e < offsets[place + 1] ; e++) {
+			if (destinations[e] == destination) {
+				return e - offsets[place];
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @param i		the index of the lane
+	 * @return		the number of steps to the end of the lane
+	 */
+	public int getSteps(int place, int i) {
+		return steps[offsets[place] + i];
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @param i		the index of the lane
+	 * @param step	the number of steps taken, 0 <= step <= getSteps(place, i)
+	 * @return		the id of the place the steps take the ship to
+	 */
+	public int getTile(int place, int i, int step) {
+		return tiles[tileStart[offsets[place] + i] + step];
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @param i		the index of the lane
+	 * @return		the ids of the places along the lane, both ends included, as a new array
+	 */
+	public int[] getRoute(int place, int i) {
+		int e = offsets[place] + i;
+		return Arrays.copyOfRange(tiles, tileStart[e], tileStart[e] + steps[e] + 1);
+	}
+}
@@ -0,0 +1,401 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class plays complete AI-vs-AI games without the GUI, as fast as the processor
+ * allows, using all of its cores. The AI players make the same decisions as in the GUI
+ * (the HeuristicStrategy), but there are no pauses, sounds or animations. At the end it
+ * reports the throughput, the win rates by starting point, seat and number of players,
+ * and the distribution of the game lengths. It's meant for trying out rule changes.
+ * </p>
+ * Usage: <code>java star_of_Africa.Simulator [games] [min players] [max players] [threads] [seed]</code>
+ * </p>
+ * The number of players cycles from the minimum to the maximum, and every player starts
+ * at Tangier or Cairo at random. Every game is determined by its own seed and number of
+ * players, and the seeds are derived from the main seed in the same way regardless of the
+ * number of threads. The seeds of the longest and the slowest game are reported, and any
+ * game can be replayed turn by turn with
+ * <code>java star_of_Africa.Simulator replay [seed] [players]</code>
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class Simulator {
+
+	private static final int MAX_PLAYERS = 5;
+	private static final int MAX_TURNS = 5000; // Games still going on after this are counted as unfinished
+	private static final int BATCH = 100; // Games played by one task without splitting it further
+
+	/**
+	 * Plays one turn of the player in turn for an AI player, the same way as the AIPlayer class.
+	 * 
+	 * @param engine	the rules
+	 * @param state		the state of the game
+	 * @param strategy	the AI of the player in turn
+	 * @param dice		the value of the diceroll
+	 */
+	public static void playTurn(RulesEngine engine, GameState state, AIStrategy strategy, int dice) {
+		int turn = state.getTurn();
+		boolean moved;
+		// An enslaved player can't do anything, and neither can a captured one who doesn't roll 1 or 2
+		if (engine.serveSlaveTurn(state) || !engine.escape(state, dice)) {
+			return;
+		}
+		// Is the player shipbound?
+		if (state.getLockedDestination(turn) >= 0) {
+			engine.move(state, engine.getMoveOptions(state, engine.getSteps(state, dice))[0]);
+			moved = true;
+		}
+		else {
+			AIMove move = strategy.chooseMove(state, dice);
+			moved = !state.hasFoundTheStar(turn);
+			if (move.getType() == AIMove.ROLL_FOR_TOKEN) {
+				engine.rollForToken(state, dice);
+				moved = false;
+			}
+			else if (!engine.makeMove(state, move)) {
+				return;
+			}
+		}
+		// If we moved onto a token we probably want to open it
+		if (moved && strategy.wantsToken(state)) {
+			engine.buyToken(state);
+		}
+	}
+
+	/**
+	 * Sets up a new game, where every player starts at Tangier or Cairo at random.
+	 * 
+	 * @param engine	the rules
+	 * @param players	the number of players
+	 * @param random	the random generator of the game
+	 * @return			the state of the new game
+	 */
+	public static GameState newGame(RulesEngine engine, int players, GameRandom random) {
+		boolean[] tangier = new boolean[players];
+		for (int i = 0 ; i < players ; i++) {
+			tangier[i] = random.nextBoolean();
+		}
+		GameState state = engine.newGame(tangier);
+		engine.setupTokens(state, random);
+		return state;
+	}
+
+	/**
+	 * Plays a game until it's over, or <code>MAX_TURNS</code> turns have been played.
+	 * 
+	 * @param engine		the rules
+	 * @param state			the state of a new game, tokens included
+	 * @param strategies	the AI of each player
+	 * @param random		the random generator of the game
+	 * @return				the number of turns played
+	 */
+	public static int playGame(RulesEngine engine, GameState state, AIStrategy[] strategies, GameRandom random) {
+		int turns = 0;
+		while (!state.isGameOver() && turns < MAX_TURNS) {
+			playTurn(engine, state, strategies[state.getTurn()], random.rollDice());
+			turns++;
+			if (!state.isGameOver()) {
+				engine.endTurn(state);
+			}
+		}
+		return turns;
+	}
+
+	// The results of a number of games
+	private static class Statistics {
+		int games;
+		int unfinished;
+		int unwinnable;
+		long turns;
+		long nanos;
+		int[] gamesByPlayers = new int[MAX_PLAYERS + 1];
+		int[][] winsBySeat = new int[MAX_PLAYERS + 1][MAX_PLAYERS];
+		int[][] winsByStart = new int[MAX_PLAYERS + 1][2]; // 0 == Tangier, 1 == Cairo
+		int[][] seatsByStart = new int[MAX_PLAYERS + 1][2];
+		int[] rounds = new int[MAX_TURNS + 1]; // Game length histogram. A round is one turn for every player
+		int longestTurns = -1;
+		long longestSeed;
+		int longestPlayers;
+		long slowestNanos = -1;
+		long slowestSeed;
+		int slowestPlayers;
+
+		void add(GameState state, int turnsPlayed, long seed, long time) {
+			int players = state.getPlayerCount();
+			games++;
+			if (turnsPlayed > longestTurns) {
+				longestTurns = turnsPlayed;
+				longestSeed = seed;
+				longestPlayers = players;
+			}
+			if (time > slowestNanos) {
+				slowestNanos = time;
+				slowestSeed = seed;
+				slowestPlayers = players;
+			}
+			turns += turnsPlayed;
+			gamesByPlayers[players]++;
+			for (int i = 0 ; i < players ; i++) {
+				seatsByStart[players][state.startsAtTangier(i) ? 0 : 1]++;
+			}
+			if (!state.isGameOver()) {
+				unfinished++;
+				return;
+			}
+			rounds[(turnsPlayed + players - 1) / players]++;
+			int winner = state.getWinner();
+			if (winner < 0) {
+				unwinnable++;
+				return;
+			}
+			winsBySeat[players][winner]++;
+			winsByStart[players][state.startsAtTangier(winner) ? 0 : 1]++;
+		}
+
+		void add(Statistics other) {
+			if (other.longestTurns > longestTurns) {
+				longestTurns = other.longestTurns;
+				longestSeed = other.longestSeed;
+				longestPlayers = other.longestPlayers;
+			}
+			if (other.slowestNanos > slowestNanos) {
+				slowestNanos = other.slowestNanos;
+				slowestSeed = other.slowestSeed;
+				slowestPlayers = other.slowestPlayers;
+			}
+			games += other.games;
+			unfinished += other.unfinished;
+			unwinnable += other.unwinnable;
+			turns += other.turns;
+			for (int n = 0 ; n <= MAX_PLAYERS ; n++) {
+				gamesByPlayers[n] += other.gamesByPlayers[n];
+				for (int i = 0 ; i < MAX_PLAYERS ; i++) {
+					winsBySeat[n][i] += other.winsBySeat[n][i];
+				}
+				for (int i = 0 ; i < 2 ; i++) {
+					winsByStart[n][i] += other.winsByStart[n][i];
+					seatsByStart[n][i] += other.seatsByStart[n][i];
+				}
+			}
+			for (int i = 0 ; i < rounds.length ; i++) {
+				rounds[i] += other.rounds[i];
+			}
+		}
+
+		// Returns the game length (in rounds) that the given fraction of the finished games don't exceed
+		int percentile(double fraction) {
+			int finished = games - unfinished;
+			int count = 0;
+			for (int i = 0 ; i < rounds.length ; i++) {
+				count += rounds[i];
+				if (count > 0 && count >= fraction * finished) {
+					return i;
+				}
+			}
+			return 0;
+		}
+	}
+
+	// Plays the games from..to-1, splitting the work in halves until the batches are small enough
+	private static class Games extends RecursiveTask<Statistics> {
+		private static final long serialVersionUID = 1L;
+		private final Board board;
+		private final int from, to, minPlayers, maxPlayers;
+		private final GameRandom random;
+
+		Games(Board board, int from, int to, int minPlayers, int maxPlayers, GameRandom random) {
+			this.board = board;
+			this.random = random;
+			this.from = from;
+			this.to = to;
+			this.minPlayers = minPlayers;
+			this.maxPlayers = maxPlayers;
+		}
+
+		protected Statistics compute() {
+			if (to - from > BATCH) {
+				int middle = (from + to) >>> 1;
+				// Each half gets a generator of its own, split off in the same order no matter which thread runs it
+				Games first = new Games(board, from, middle, minPlayers, maxPlayers, random.split());
+				Games second = new Games(board, middle, to, minPlayers, maxPlayers, random);
+				first.fork();
+				Statistics result = second.compute();
+				result.add(first.join());
+				return result;
+			}
+			// The strategy has work memory of its own, so every batch needs its own copy
+			RulesEngine engine = board.getEngine();
+			AIStrategy strategy = new HeuristicStrategy(engine, board.getDistances());
+			AIStrategy[] strategies = new AIStrategy[MAX_PLAYERS];
+			for (int i = 0 ; i < strategies.length ; i++) {
+				strategies[i] = strategy;
+			}
+			Statistics result = new Statistics();
+			for (int game = from ; game < to ; game++) {
+				long seed = random.nextLong();
+				GameRandom gameRandom = new GameRandom(seed);
+				GameState state = newGame(engine, minPlayers + game % (maxPlayers - minPlayers + 1), gameRandom);
+				long start = System.nanoTime();
+				int turns = playGame(engine, state, strategies, gameRandom);
+				result.add(state, turns, seed, System.nanoTime() - start);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Plays a number of games on all the processor cores.
+	 * 
+	 * @param board			the board
+	 * @param games			the number of games
+	 * @param minPlayers	the least number of players in a game
+	 * @param maxPlayers	the greatest number of players in a game
+	 * @param threads		the number of threads
+	 * @param seed			the seed from which the seeds of the games are derived
+	 */
+	private static Statistics simulate(Board board, int games, int minPlayers, int maxPlayers, int threads, long seed) {
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		long start = System.nanoTime();
+		Statistics result = pool.invoke(new Games(board, 0, games, minPlayers, maxPlayers, new GameRandom(seed)));
+		result.nanos = System.nanoTime() - start;
+		pool.shutdown();
+		return result;
+	}
+
+	private static String percent(int part, int whole) {
+		return whole == 0 ? "-" : String.format("%.1f %%", 100.0 * part / whole);
+	}
+
+	private static void report(Statistics s, int threads, long seed) {
+		double seconds = s.nanos / 1e9;
+		System.out.println(s.games + " games in " + String.format("%.2f", seconds) + " s on " + threads + " threads: "
+				+ String.format("%.0f", s.games / seconds) + " games/s, " + String.format("%.0f", s.turns / seconds) + " turns/s");
+		System.out.println("Seed: " + seed);
+		System.out.println("Unfinished after " + MAX_TURNS + " turns: " + s.unfinished + ", unwinnable: " + s.unwinnable);
+		System.out.println("Longest game: " + s.longestTurns + " turns (replay " + s.longestSeed + " " + s.longestPlayers + ")");
+		System.out.println("Slowest game: " + String.format("%.1f", s.slowestNanos / 1e6) + " ms (replay " + s.slowestSeed + " "
+				+ s.slowestPlayers + ")");
+		for (int n = 1 ; n <= MAX_PLAYERS ; n++) {
+			if (s.gamesByPlayers[n] == 0) {
+				continue;
+			}
+			System.out.println();
+			System.out.println(n + " players, " + s.gamesByPlayers[n] + " games");
+			// The win rate of a starting point is per player starting there, so that 1/n is a fair share
+			System.out.println("  Win rate per player starting at Tangier: " + percent(s.winsByStart[n][0], s.seatsByStart[n][0])
+					+ ", at Cairo: " + percent(s.winsByStart[n][1], s.seatsByStart[n][1]));
+			StringBuilder seats = new StringBuilder("  Win rate by seat:");
+			for (int i = 0 ; i < n ; i++) {
+				seats.append(" " + (i + 1) + ": " + percent(s.winsBySeat[n][i], s.gamesByPlayers[n]));
+			}
+			System.out.println(seats);
+		}
+		System.out.println();
+		System.out.println("Game length in rounds: mean " + String.format("%.1f", averageRounds(s)) + ", min " + s.percentile(0)
+				+ ", 10 % " + s.percentile(0.1) + ", median " + s.percentile(0.5) + ", 90 % " + s.percentile(0.9)
+				+ ", 99 % " + s.percentile(0.99) + ", max " + s.percentile(1));
+		// Histogram in buckets of ten rounds
+		int finished = s.games - s.unfinished;
+		for (int bucket = 0 ; bucket * 10 <= s.percentile(1) && finished > 0 ; bucket++) {
+			int count = 0;
+			for (int i = bucket * 10 ; i < Math.min(bucket * 10 + 10, s.rounds.length) ; i++) {
+				count += s.rounds[i];
+			}
+			StringBuilder bar = new StringBuilder();
+			for (int i = 0 ; i < 60 * count / finished ; i++) {
+				bar.append('#');
+			}
+			System.out.println(String.format("  %4d-%-4d %7d %s", bucket * 10, bucket * 10 + 9, count, bar));
+		}
+	}
+
+	private static double averageRounds(Statistics s) {
+		long total = 0;
+		int finished = 0;
+		for (int i = 0 ; i < s.rounds.length ; i++) {
+			total += (long)i * s.rounds[i];
+			finished += s.rounds[i];
+		}
+		return finished == 0 ? 0 : (double)total / finished;
+	}
+
+	/**
+	 * Replays a single game, and prints the state after every turn.
+	 * 
+	 * @param board		the board
+	 * @param seed		the seed of the game
+	 * @param players	the number of players
+	 */
+	private static void replay(Board board, long seed, int players) {
+		RulesEngine engine = board.getEngine();
+		BoardGraph graph = board.getGraph();
+		AIStrategy[] strategies = new AIStrategy[players];
+		for (int i = 0 ; i < players ; i++) {
+			strategies[i] = new HeuristicStrategy(engine, board.getDistances());
+		}
+		GameRandom random = new GameRandom(seed);
+		GameState state = newGame(engine, players, random);
+		int turns = 0;
+		while (!state.isGameOver() && turns < MAX_TURNS) {
+			int turn = state.getTurn();
+			int dice = random.rollDice();
+			Place from = graph.getPlace(state.getPlace(turn));
+			playTurn(engine, state, strategies[turn], dice);
+			Place to = graph.getPlace(state.getPlace(turn));
+			turns++;
+			System.out.println(String.format("%5d  player %d  rolled %d  %-16s -> %-16s %5d pounds%s%s%s", turns, turn + 1, dice,
+					describe(from), describe(to), state.getMoney(turn), state.hasFoundTheStar(turn) ? "  star" : "",
+					state.isCaptured(turn) ? "  captured" : "", state.getTurnsLeftAsSlave(turn) > 0 ? "  slave" : ""));
+			if (!state.isGameOver()) {
+				engine.endTurn(state);
+			}
+		}
+		System.out.println(state.getWinner() >= 0 ? "Player " + (state.getWinner() + 1) + " won." : "Nobody won.");
+	}
+
+	// Places without names are described by their coordinates
+	private static String describe(Place p) {
+		return p.getName().length() > 0 ? p.getName() : "(" + p.getX() + "," + p.getY() + ")";
+	}
+
+	public static void main(String[] args) {
+		if (args.length == 3 && args[0].equals("replay")) {
+			replay(new Board(), Long.parseLong(args[1]), Integer.parseInt(args[2]));
+			return;
+		}
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int minPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+		int maxPlayers = args.length > 2 ? Integer.parseInt(args[2]) : args.length > 1 ? minPlayers : MAX_PLAYERS;
+		int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+		long seed = args.length > 4 ? Long.parseLong(args[4]) : new GameRandom().nextLong();
+		if (games < 1 || minPlayers < 1 || maxPlayers > MAX_PLAYERS || minPlayers > maxPlayers || threads < 1) {
+			System.err.println("Usage: java star_of_Africa.Simulator [games] [min players (1-5)] [max players (1-5)] [threads] [seed]");
+			System.err.println("       java star_of_Africa.Simulator replay [seed] [players]");
+			System.exit(1);
+		}
+		Board board = new Board();
+		report(simulate(board, games, minPlayers, maxPlayers, threads, seed), threads, seed);
+	}
+}
@@ -0,0 +1,78 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+/**
+ * This class holds the speeds at which the moves of the AI players can be shown.
+ * Every speed tells how long the AI pauses to let the human players see what happened,
+ * and how long one frame of an animated move lasts. The instant speed skips both.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public enum Speed {
+	SLOW(3000,40),NORMAL(2000,20),FAST(500,5),INSTANT(0,0);
+	
+	private final long pause;
+	private final int frameDelay;
+	
+	private Speed(long pause, int frameDelay) {
+		this.pause = pause;
+		this.frameDelay = frameDelay;
+	}
+	
+	/**
+	 * @return	the time in milliseconds the AI waits after each step of its turn
+	 */
+	public long getPause() {
+		return pause;
+	}
+	
+	/**
+	 * @return	the time in milliseconds one frame of an animated move is shown,
+	 * 			0 if moves are not animated at all
+	 */
+	public int getFrameDelay() {
+		return frameDelay;
+	}
+	
+	/**
+	 * @return	the key of the speed's name in the resource bundle
+	 */
+	public String getKey() {
+		return "speed" + name().charAt(0) + name().substring(1).toLowerCase();
+	}
+	
+	/**
+	 * Looks up a speed by its name, ignoring case.
+	 * 
+	 * @param name	the name of the speed, e.g. "instant"
+	 * @return		the speed, or NORMAL if there is no speed of that name
+	 */
+	public static Speed parse(String name) {
+		for (Speed s : values()) {
+			if (s.name().equalsIgnoreCase(name)) {
+				return s;
+			}
+		}
+		return NORMAL;
+	}
+	
+}
@@ -0,0 +1,108 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+
+import javax.swing.ImageIcon;
+
+/**
+ * This class is an image placed somewhere on a BoardCanvas, such as a gamepiece or a token.
+ * Unlike a component it has no layout, no events and no painting of its own; the canvas paints it.
+ * Whenever the sprite is moved or its image changes, the canvas repaints the area it left and
+ * the area it now covers, and nothing else.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class Sprite {
+
+	private ImageIcon icon;
+	private int x;
+	private int y;
+	private BoardCanvas canvas; // Set when the sprite is added to a canvas
+	private int layer;
+
+	/**
+	 * Constructs a sprite at the origin.
+	 * 
+	 * @param icon	the image, or <code>null</code> for none
+	 */
+	public Sprite(ImageIcon icon) {
+		this.icon = icon;
+	}
+
+	void setCanvas(BoardCanvas canvas, int layer) {
+		this.canvas = canvas;
+		this.layer = layer;
+	}
+
+	int getLayer() {
+		return layer;
+	}
+
+	public ImageIcon getIcon() {
+		return icon;
+	}
+
+	public void setIcon(ImageIcon icon) {
+		if (icon != this.icon) {
+			Rectangle before = getBounds();
+			this.icon = icon;
+			changed(before);
+		}
+	}
+
+	public Point getLocation() {
+		return new Point(x, y);
+	}
+
+	public void setLocation(int x, int y) {
+		if (x != this.x || y != this.y) {
+			Rectangle before = getBounds();
+			this.x = x;
+			this.y = y;
+			changed(before);
+		}
+	}
+
+	/**
+	 * @return	the area the sprite covers, which is empty if it has no image
+	 */
+	public Rectangle getBounds() {
+		return icon == null ? new Rectangle(x, y, 0, 0) : new Rectangle(x, y, icon.getIconWidth(), icon.getIconHeight());
+	}
+
+	// Tells the canvas which areas need to be painted again
+	private void changed(Rectangle before) {
+		if (canvas != null) {
+			canvas.changed(this, before);
+			canvas.changed(this, getBounds());
+		}
+	}
+
+	void paint(Graphics g) {
+		if (icon != null) {
+			icon.paintIcon(canvas, g, x, y);
+		}
+	}
+}
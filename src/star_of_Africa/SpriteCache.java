@@ -0,0 +1,137 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * This class keeps the images of the tokens, dice and gamepieces, so that each image is
+ * decoded only once, and each size of it is only scaled once. The sizes are kept in the
+ * order they were last used, and the least recently used ones are dropped once there are
+ * too many, which happens to the sizes of a zoom level that is no longer shown. The icons
+ * are shared, so they must not be changed.
+ * </p>
+ * Images are scaled down by halving them until they're less than twice the size wanted,
+ * and bicubic interpolation then takes them the rest of the way.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class SpriteCache {
+
+	private static final int MAX_SIZES = 64; // Enough for a few zoom levels of everything shown on the board
+
+	private static final HashMap<String, BufferedImage> originals = new HashMap<String, BufferedImage>();
+	private static final LinkedHashMap<String, ImageIcon> sizes = new LinkedHashMap<String, ImageIcon>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(java.util.Map.Entry<String, ImageIcon> eldest) {
+			return size() > MAX_SIZES;
+		}
+	};
+
+	private SpriteCache() {
+	}
+
+	/**
+	 * Returns an image at the requested size.
+	 * 
+	 * @param name		the name of the image file, relative to this class
+	 * @param height	the desired height of the image in pixels. (The width will
+	 * 					automatically be calculated.) Calling the method using 0 will
+	 * 					result in an image of the original size.
+	 * @return			the image
+	 */
+	public static synchronized ImageIcon getIcon(String name, int height) {
+		String key = name + "@" + height;
+		ImageIcon icon = sizes.get(key);
+		if (icon == null) {
+			BufferedImage original = getOriginal(name);
+			icon = new ImageIcon(height == 0 ? original : scale(original, height));
+			sizes.put(key, icon);
+		}
+		return icon;
+	}
+
+	/**
+	 * Returns an image at the requested size, scaled roughly unless it's already in the cache.
+	 * Rough images are quick to make, and aren't kept.
+	 * 
+	 * @param name		the name of the image file, relative to this class
+	 * @param height	the desired height of the image in pixels
+	 * @return			the image
+	 */
+	public static synchronized ImageIcon getRoughIcon(String name, int height) {
+		ImageIcon icon = sizes.get(name + "@" + height);
+		if (icon != null) {
+			return icon;
+		}
+		BufferedImage original = getOriginal(name);
+		BufferedImage rough = new BufferedImage(getWidth(original, height), height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = rough.createGraphics();
+		g.drawImage(original, 0, 0, rough.getWidth(), height, null);
+		g.dispose();
+		return new ImageIcon(rough);
+	}
+
+	// The width of an image scaled to the given height
+	private static int getWidth(BufferedImage image, int height) {
+		return Math.max(1, (int)Math.round((double)image.getWidth() * height / image.getHeight()));
+	}
+
+	private static BufferedImage getOriginal(String name) {
+		BufferedImage image = originals.get(name);
+		if (image == null) {
+			try {
+				image = ImageIO.read(SpriteCache.class.getResource(name));
+			}
+			catch (IOException e) {
+				throw new IllegalStateException("Cannot read " + name, e);
+			}
+			originals.put(name, image);
+		}
+		return image;
+	}
+
+	private static BufferedImage scale(BufferedImage image, int height) {
+		int width = getWidth(image, height);
+		BufferedImage scaled = image;
+		do {
+			int h = Math.max(height, scaled.getHeight() / 2);
+			int w = h == height ? width : Math.max(width, scaled.getWidth() / 2);
+			BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D g = next.createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g.drawImage(scaled, 0, 0, w, h, null);
+			g.dispose();
+			scaled = next;
+		} while (scaled.getHeight() != height);
+		return scaled;
+	}
+}
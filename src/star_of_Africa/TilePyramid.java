@@ -0,0 +1,186 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+
+import javax.imageio.ImageIO;
+
+/**
+ * This class holds a large image as a pyramid of tiles, so that it can be drawn at any size
+ * without scaling all of it. Level 0 is the image at its original size, and every level
+ * after it is half the size of the one before, down to the level that fits on a single tile.
+ * Every level is cut into square tiles, and only the tiles that are visible get drawn, from
+ * the level nearest to the size they're drawn at. All the levels together take a third more
+ * memory than the image itself, however far it is zoomed.
+ * </p>
+ * The pyramid is built in a thread of its own, starting from level 0. The component the image
+ * is shown on is repainted as the levels become ready, and until the level it needs is ready
+ * the nearest finer one is used, which looks the same but is slower to draw.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class TilePyramid {
+
+	private static final int TILE = 256; // The side of a tile in pixels
+
+	private final int width; // The size of the original image
+	private final int height;
+	private final BufferedImage[][][] levels; // Indexed by level, row and column. A level is null until it's ready.
+
+	/**
+	 * Starts building the pyramid of an image.
+	 * 
+	 * @param url		the image
+	 * @param width		the width of the image in pixels
+	 * @param height	the height of the image in pixels
+	 * @param view		the component to repaint as the levels become ready
+	 */
+	public TilePyramid(final URL url, int width, int height, final Component view) {
+		this.width = width;
+		this.height = height;
+		int count = 1;
+		while (Math.max(width, height) > TILE << (count - 1)) {
+			count++;
+		}
+		levels = new BufferedImage[count][][];
+		Thread builder = new Thread("Board tiles") {
+			public void run() {
+				try {
+					build(ImageIO.read(url), view);
+				}
+				catch (IOException e) {
+					e.printStackTrace();
+				}
+			}
+		};
+		builder.setDaemon(true);
+		builder.setPriority(Thread.MIN_PRIORITY);
+		builder.start();
+	}
+
+	// Builds the levels one by one, each one from the one before
+	private void build(BufferedImage image, Component view) {
+		BufferedImage level = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		draw(image, level);
+		for (int i = 0 ; i < levels.length ; i++) {
+			if (i > 0) {
+				BufferedImage half = new BufferedImage(Math.max(1, (level.getWidth() + 1) / 2),
+						Math.max(1, (level.getHeight() + 1) / 2), BufferedImage.TYPE_INT_RGB);
+				draw(level, half);
+				level = half;
+			}
+			int rows = (level.getHeight() + TILE - 1) / TILE;
+			int columns = (level.getWidth() + TILE - 1) / TILE;
+			BufferedImage[][] tiles = new BufferedImage[rows][columns];
+			for (int r = 0 ; r < rows ; r++) {
+				for (int c = 0 ; c < columns ; c++) {
+					int w = Math.min(TILE, level.getWidth() - c * TILE);
+					int h = Math.min(TILE, level.getHeight() - r * TILE);
+					tiles[r][c] = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+					Graphics2D g = tiles[r][c].createGraphics();
+					g.drawImage(level, -c * TILE, -r * TILE, null);
+					g.dispose();
+				}
+			}
+			synchronized (this) {
+				levels[i] = tiles;
+			}
+			view.repaint();
+		}
+	}
+
+	// Draws an image over another one, scaling it to fit
+	private static void draw(BufferedImage from, BufferedImage to) {
+		Graphics2D g = to.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g.drawImage(from, 0, 0, to.getWidth(), to.getHeight(), null);
+		g.dispose();
+	}
+
+	/**
+	 * @return	the number of levels that are ready to be drawn
+	 */
+	public synchronized int getReadyLevels() {
+		int ready = 0;
+		for (BufferedImage[][] level : levels) {
+			if (level != null) {
+				ready++;
+			}
+		}
+		return ready;
+	}
+
+	/**
+	 * Draws the part of the image that falls within the clip of the graphics context.
+	 * 
+	 * @param g		the graphics context
+	 * @param scale	the number of pixels of the original image per pixel drawn
+	 * @param rough	should the tiles be drawn without smoothing, which is faster?
+	 */
+	public void paint(Graphics2D g, double scale, boolean rough) {
+		// The coarsest level that still has at least as many pixels as are drawn
+		int wanted = 0;
+		while (wanted + 1 < levels.length && (1 << (wanted + 1)) <= scale) {
+			wanted++;
+		}
+		BufferedImage[][] tiles = null;
+		int level;
+		synchronized (this) {
+			for (level = wanted ; level >= 0 && levels[level] == null ; level--) {
+			}
+			if (level < 0) {
+				return; // Nothing is ready yet
+			}
+			tiles = levels[level];
+		}
+		Rectangle clip = g.getClipBounds();
+		if (clip == null) {
+			clip = new Rectangle(0, 0, (int)Math.ceil(width / scale), (int)Math.ceil(height / scale));
+		}
+		// The size of a tile where it's drawn
+		double side = TILE * (1 << level) / scale;
+		int firstRow = Math.max(0, (int)(clip.y / side));
+		int lastRow = Math.min(tiles.length - 1, (int)((clip.y + clip.height) / side));
+		int firstColumn = Math.max(0, (int)(clip.x / side));
+		int lastColumn = Math.min(tiles[0].length - 1, (int)((clip.x + clip.width) / side));
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, rough ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR
+				: RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		for (int r = firstRow ; r <= lastRow ; r++) {
+			for (int c = firstColumn ; c <= lastColumn ; c++) {
+				BufferedImage tile = tiles[r][c];
+				// Rounding both edges keeps the tiles from overlapping or leaving gaps
+				int x = (int)Math.round(c * side);
+				int y = (int)Math.round(r * side);
+				int w = (int)Math.round(c * side + tile.getWidth() * side / TILE) - x;
+				int h = (int)Math.round(r * side + tile.getHeight() * side / TILE) - y;
+				g.drawImage(tile, x, y, w, h, null);
+			}
+		}
+	}
+}
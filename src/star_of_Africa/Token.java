@@ -18,9 +18,6 @@
 
 package star_of_Africa;
 
-import java.awt.Image;
-import java.net.URL;
-
 import javax.swing.ImageIcon;
 
 /**
@@ -42,39 +39,38 @@ public enum Token {
 	 * @return			the resized image of the token in question.
 	 */
 	ImageIcon getResizedIcon(int height) {
-		Image image;
-		URL imgURL = getClass().getResource("img/blank.png");
+		return SpriteCache.getIcon(getImageName(), height);
+	}
+
+	/**
+	 * Returns an image of the token at the requested size, which is scaled roughly
+	 * unless it has been scaled properly to that size before.
+	 * 
+	 * @param height	the desired height of the image in pixels
+	 * @return			the image
+	 */
+	ImageIcon getRoughIcon(int height) {
+		return SpriteCache.getRoughIcon(getImageName(), height);
+	}
+
+	// The image file of the token
+	private String getImageName() {
 		switch(this) {
 		case BLANK:
-			imgURL = getClass().getResource("img/blank.png");
-			break;
+			return "img/blank.png";
 		case HORSESHOE:
-			imgURL = getClass().getResource("img/horseshoe.png");
-			break;
+			return "img/horseshoe.png";
 		case ROBBER:
-			imgURL = getClass().getResource("img/robber.png");
-			break;
+			return "img/robber.png";
 		case TOPAZ:
-			imgURL = getClass().getResource("img/topaz.png");
-			break;
+			return "img/topaz.png";
 		case EMERALD:
-			imgURL = getClass().getResource("img/emerald.png");
-			break;
+			return "img/emerald.png";
 		case RUBY:
-			imgURL = getClass().getResource("img/ruby.png");
-			break;
-		case STAR_OF_AFRICA:
-			imgURL = getClass().getResource("img/star_of_africa.png");
-			break;
-		}
-		ImageIcon icon= new ImageIcon(imgURL);
-		if (height == 0) {
-			return icon;
+			return "img/ruby.png";
+		default:
+			return "img/star_of_africa.png";
 		}
-		image = icon.getImage();
-		image = image.getScaledInstance(-1, height, Image.SCALE_DEFAULT);
-		icon.setImage(image);
-		return icon;
 	}
 
 	/**
@@ -101,6 +97,39 @@ public enum Token {
 		return null;
 	}
 
+	/**
+	 * @return	how many tokens of this kind there are in a game
+	 */
+	int count() {
+		switch(this) {
+		case BLANK:
+			return 12;
+		case HORSESHOE:
+			return 5;
+		case ROBBER:
+			return 3;
+		case TOPAZ:
+			return 4;
+		case EMERALD:
+			return 3;
+		case RUBY:
+			return 2;
+		default:
+			return 1;
+		}
+	}
+
+	/**
+	 * @return	how many tokens there are in a game, one for each city at most
+	 */
+	static int total() {
+		int total = 0;
+		for (Token t : values()) {
+			total += t.count();
+		}
+		return total;
+	}
+
 	/**
 	 * @return	the value of the token
 	 */
@@ -0,0 +1,159 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+/**
+ * This class keeps count of the kinds of tokens that are still unopened, as far as the players
+ * can know. Any unopened token is as likely as any other to be of a given kind, in proportion
+ * to how many of that kind are left. From the counts follows what opening a token at a city is
+ * worth to a player on average: the money (gems doubled at Gold Coast, everything lost to a
+ * robber), the chance of getting the star (or a horseshoe once the star has been found), and
+ * the turns lost as a slave after a blank at Slave Coast.
+ * </p>
+ * The counts follow the tokens of a game like the TokenIndex does: an opened token is taken off
+ * the count of its kind. The counts start over when tokens come back, and also when a token
+ * counted as opened turns out to have been another kind, as happens between the branches of a
+ * search, the guesses of a determinization or two games on the same layout.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class TokenBelief {
+
+	public static final double TURNS_PER_POUND = 1 / 500.0; // What money is worth in turns
+	public static final double STAR_TURNS = 20.0; // What getting the star is worth in turns
+
+	private static final Token[] TOKENS = Token.values();
+
+	private final RulesEngine engine;
+	private final BoardGraph board;
+	private final int[] left = new int[TOKENS.length]; // Indexed by the ordinal of the token
+	private int unopened;
+	private int gems; // The value of the gems left
+	private long tokens;
+	private final long all; // Every city
+	private final byte[] counted; // The kind each opened token was counted as, by city
+
+	/**
+	 * Constructs the belief at the beginning of a game, when no tokens have been opened.
+	 *
+	 * @param engine	the rules
+	 */
+	public TokenBelief(RulesEngine engine) {
+		this.engine = engine;
+		board = engine.getBoard();
+		all = board.getCityCount() == 64 ? -1L : (1L << board.getCityCount()) - 1;
+		counted = new byte[board.getCityCount()];
+		reset();
+	}
+
+	// Starts over with every token unopened
+	private void reset() {
+		unopened = 0;
+		gems = 0;
+		for (Token t : TOKENS) {
+			left[t.ordinal()] = t.count();
+			unopened += t.count();
+			gems += Math.max(0, t.monetaryValue()) * t.count();
+		}
+		tokens = all;
+	}
+
+	/**
+	 * Brings the counts up to date with the tokens opened in a game.
+	 *
+	 * @param s	the state of the game
+	 */
+	public void update(GameState s) {
+		long t = s.getTokens();
+		boolean same = (t & ~tokens) == 0;
+		for (long opened = all & ~tokens ; same && opened != 0 ; opened &= opened - 1) {
+			int city = Long.numberOfTrailingZeros(opened);
+			same = s.getOpenedToken(board.getCity(city)).ordinal() == counted[city];
+		}
+		if (!same) {
+			reset();
+		}
+		for (long opened = tokens & ~t ; opened != 0 ; opened &= opened - 1) {
+			int city = Long.numberOfTrailingZeros(opened);
+			Token token = s.getOpenedToken(board.getCity(city));
+			counted[city] = (byte)token.ordinal();
+			left[token.ordinal()]--;
+			unopened--;
+			gems -= Math.max(0, token.monetaryValue());
+		}
+		tokens = t;
+	}
+
+	/**
+	 * @param token	a kind of token
+	 * @return		the chance that an unopened token is of that kind
+	 */
+	public double getChance(Token token) {
+		return unopened == 0 ? 0 : (double)left[token.ordinal()] / unopened;
+	}
+
+	/**
+	 * @param s			the state of the game
+	 * @param player	the player
+	 * @return			the chance that a token makes the player the holder of the star: the star itself,
+	 * 					or a horseshoe once the star has been found
+	 */
+	public double getStarChance(GameState s, int player) {
+		if (s.hasFoundTheStar(player)) {
+			return 0;
+		}
+		return getChance(s.starHasBeenFound() ? Token.HORSESHOE : Token.STAR_OF_AFRICA);
+	}
+
+	/**
+	 * @param s			the state of the game
+	 * @param player	the player
+	 * @param place		the city of the token
+	 * @return			the money the player can expect to win (or lose, if it's the robbers that count)
+	 * 					by opening the token
+	 */
+	public double getExpectedMoney(GameState s, int player, int place) {
+		if (unopened == 0) {
+			return 0;
+		}
+		int bonus = place == engine.getGoldCoast() ? RulesEngine.GOLD_COAST_BONUS : 1;
+		return ((double)gems * bonus - left[Token.ROBBER.ordinal()] * s.getMoney(player)) / unopened;
+	}
+
+	/**
+	 * @param place	the city of the token
+	 * @return		the turns a player can expect to lose by opening the token
+	 */
+	public double getExpectedPenalty(int place) {
+		return place == engine.getSlaveCoast() ? getChance(Token.BLANK) * RulesEngine.SLAVE_TURNS : 0;
+	}
+
+	/**
+	 * @param s			the state of the game
+	 * @param player	the player
+	 * @param place		the city of the token
+	 * @return			what opening the token is worth to the player on average, in turns
+	 */
+	public double getWorth(GameState s, int player, int place) {
+		return getStarChance(s, player) * STAR_TURNS + getExpectedMoney(s, player, place) * TURNS_PER_POUND
+				- getExpectedPenalty(place);
+	}
+}
@@ -0,0 +1,148 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.Arrays;
+
+/**
+ * This class keeps track of the nearest unopened token from every place, by land and by
+ * land and sea, measured in steps like in the DistanceTable. Of equally near tokens the one
+ * in the city with the lowest id counts as the nearest.
+ * </p>
+ * Every place has the cities in the order of their distance from it, and a position in that
+ * order before which all tokens have been opened. Since tokens are only ever taken away during
+ * a game, the position only moves forward, and looking up the nearest token costs next to
+ * nothing on average. The positions stay right for any set of tokens that is a subset of the
+ * one they were found for, since they only pass over cities whose tokens are gone. Whenever
+ * a token comes back (a new game, or a search going back to an earlier position or over to
+ * a sibling one, even with no more tokens than before) the positions start over.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class TokenIndex {
+
+	private static final int MODES = 2; // DistanceTable.LAND and DistanceTable.LAND_AND_SEA
+
+	private final BoardGraph board;
+	private final DistanceTable distances;
+	private final int cities;
+	private final byte[][] order = new byte[MODES][]; // From the DistanceTable
+	private final byte[][] first = new byte[MODES][]; // For every place the position in its order where the search starts
+	private long tokens; // Every set of tokens since the positions started over has been a subset of the one before
+
+	/**
+	 * Constructs an index of a board with a token in every city.
+	 *
+	 * @param board		the board
+	 * @param distances	the distances between the places of the board
+	 */
+	public TokenIndex(BoardGraph board, DistanceTable distances) {
+		this.board = board;
+		this.distances = distances;
+		cities = board.getCityCount();
+		for (int mode = 0 ; mode < MODES ; mode++) {
+			order[mode] = distances.getCityOrder(mode);
+			first[mode] = new byte[board.size()];
+		}
+		tokens = cities == 64 ? -1L : (1L << cities) - 1;
+	}
+
+	/**
+	 * Brings the index up to date with the unopened tokens of a game. The positions are kept
+	 * only if no token has come back since the last update.
+	 *
+	 * @param tokens	the cities with unopened tokens, bit i standing for city i
+	 * 					(as returned by <code>GameState.getTokens</code>)
+	 */
+	public void update(long tokens) {
+		if ((tokens & ~this.tokens) != 0) { // A token that wasn't there the last time, so the positions may pass over it
+			for (int mode = 0 ; mode < MODES ; mode++) {
+				Arrays.fill(first[mode], (byte)0);
+			}
+		}
+		this.tokens = tokens;
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @param mode	<code>DistanceTable.LAND</code> or <code>DistanceTable.LAND_AND_SEA</code>
+	 * @return		the id of the city with the nearest unopened token, or -1 if none can be reached
+	 */
+	public int getNearest(int place, int mode) {
+		assert passesOverNoToken(place, mode);
+		byte[] o = order[mode];
+		int row = place * cities;
+		int i = first[mode][place];
+		while (i < cities && (tokens & 1L << o[row + i]) == 0) {
+			i++;
+		}
+		first[mode][place] = (byte)i;
+		if (i == cities) {
+			return -1;
+		}
+		int city = board.getCity(o[row + i]);
+		return distances.getDistance(place, city, mode) == DistanceTable.UNREACHABLE ? -1 : city;
+	}
+
+	/**
+	 * @param place		the id of a place
+	 * @param mode		<code>DistanceTable.LAND</code> or <code>DistanceTable.LAND_AND_SEA</code>
+	 * @param except	the id of a city to pass over
+	 * @return			the id of the city with the nearest unopened token apart from the one in the
+	 * 					given city, or -1 if none can be reached
+	 */
+	public int getNearest(int place, int mode, int except) {
+		int city = getNearest(place, mode);
+		if (city != except) {
+			return city;
+		}
+		byte[] o = order[mode];
+		int row = place * cities;
+		for (int i = first[mode][place] + 1 ; i < cities ; i++) {
+			if ((tokens & 1L << o[row + i]) != 0) {
+				city = board.getCity(o[row + i]);
+				return distances.getDistance(place, city, mode) == DistanceTable.UNREACHABLE ? -1 : city;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @param mode	<code>DistanceTable.LAND</code> or <code>DistanceTable.LAND_AND_SEA</code>
+	 * @return		the number of steps to the nearest unopened token, or
+	 * 				<code>DistanceTable.UNREACHABLE</code> if none can be reached
+	 */
+	public int getDistance(int place, int mode) {
+		int city = getNearest(place, mode);
+		return city < 0 ? DistanceTable.UNREACHABLE : distances.getDistance(place, city, mode);
+	}
+
+	// Checks that the position of a place only passes over cities without tokens
+	private boolean passesOverNoToken(int place, int mode) {
+		for (int i = 0 ; i < first[mode][place] ; i++) {
+			if ((tokens & 1L << order[mode][place * cities + i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,479 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class plays AI strategies against each other without the GUI, to find out whether
+ * one plays better than another. Every pair of strategies plays the same number of games,
+ * on all the processor cores. At the end it reports the Elo rating of every strategy with
+ * its 95 % confidence interval, the score of every strategy against every other, how
+ * long the decisions of every strategy took, and how many of them took longer than the
+ * time limit of the strategy. The time is measured here, around every decision the strategy
+ * makes, whether it's a move or buying a token.
+ * </p>
+ * Usage: <code>java star_of_Africa.Tournament [games per pair] [players] [threads] [seed] [strategy...]</code>
+ * </p>
+ * The strategies are given as <code>heuristic</code>, <code>expectimax[:depth[:milliseconds]]</code>
+ * and <code>mcts[:milliseconds]</code>, where 0 milliseconds means no time limit. By default
+ * the heuristic plays a depth 2 expectimax search. The searches use one thread each, since
+ * the games are already played in parallel.
+ * </p>
+ * The games are played in pairs: both games of a pair are dealt from the same seed, so the
+ * tokens and the starting points are the same, but the strategies swap seats. The seats
+ * alternate between the two strategies, and which of them sits first changes from pair to pair.
+ * A game is won by the strategy of the winner, and a game that nobody wins counts as a draw.
+ * In games of more than two players this makes the result a team result. The seeds are
+ * derived from the main seed in the same way regardless of the number of threads, but
+ * strategies with a time limit don't play the same way twice.
+ * </p>
+ * The ratings are fitted to the scores by maximum likelihood (the Bradley-Terry model),
+ * with one extra draw between every pair so that a strategy that never wins keeps a finite
+ * rating. The first strategy is rated 0, and the intervals are relative to it.
+ * 
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class Tournament {
+
+	private static final int BATCH = 20; // Games played by one task without splitting it further
+	private static final int BUCKETS_PER_OCTAVE = 16; // Resolution of the decision times, about 4 %
+	private static final int TIME_BUCKETS = 64 * BUCKETS_PER_OCTAVE;
+	private static final double ELO_PER_NEPER = 400 / Math.log(10);
+
+	/**
+	 * An AI strategy taking part, given by its name and parameters. A strategy keeps work
+	 * memory, so every thread creates instances of its own.
+	 */
+	private static class Entry {
+		final String name;
+		final String kind;
+		final int depth;
+		final long time;
+
+		Entry(String spec) {
+			name = spec;
+			String[] parts = spec.split(":");
+			kind = parts[0];
+			if (kind.equals("heuristic") && parts.length == 1) {
+				depth = 0;
+				time = 0;
+			}
+			else if (kind.equals("expectimax") && parts.length <= 3) {
+				depth = parts.length > 1 ? Integer.parseInt(parts[1]) : ExpectimaxStrategy.DEFAULT_DEPTH;
+				time = parts.length > 2 ? Long.parseLong(parts[2]) : ExpectimaxStrategy.DEFAULT_TIME;
+			}
+			else if (kind.equals("mcts") && parts.length <= 2) {
+				depth = 0;
+				time = parts.length > 1 ? Long.parseLong(parts[1]) : MctsStrategy.DEFAULT_TIME;
+			}
+			else {
+				throw new IllegalArgumentException("Unknown strategy: " + spec);
+			}
+		}
+
+		AIStrategy create(RulesEngine engine, DistanceTable distances, GameRandom random) {
+			if (kind.equals("expectimax")) {
+				return new ExpectimaxStrategy(engine, distances, depth, time, 1);
+			}
+			if (kind.equals("mcts")) {
+				return new MctsStrategy(engine, distances, random, time, 1);
+			}
+			return new HeuristicStrategy(engine, distances);
+		}
+	}
+
+	/**
+	 * Measures the moves of a strategy into a histogram with logarithmic buckets, and counts
+	 * the decisions that take longer than the time limit.
+	 */
+	private static class Timed implements AIStrategy {
+		private final AIStrategy strategy;
+		private final long[] histogram;
+		private final long limit; // In nanoseconds, 0 for none
+		int overruns;
+
+		Timed(AIStrategy strategy, long[] histogram, long time) {
+			this.strategy = strategy;
+			this.histogram = histogram;
+			limit = 1000000L * time;
+		}
+
+		public AIMove chooseMove(GameState state, int dice) {
+			long start = System.nanoTime();
+			AIMove move = strategy.chooseMove(state, dice);
+			long nanos = Math.max(1, measure(start));
+			histogram[Math.min(TIME_BUCKETS - 1, (int)(BUCKETS_PER_OCTAVE * Math.log(nanos) / Math.log(2)))]++;
+			return move;
+		}
+
+		public boolean wantsToken(GameState state) {
+			long start = System.nanoTime();
+			boolean wants = strategy.wantsToken(state);
+			measure(start);
+			return wants;
+		}
+
+		// Returns the time since the start of a decision, counting it if it's over the limit
+		private long measure(long start) {
+			long nanos = System.nanoTime() - start;
+			if (limit > 0 && nanos > limit) {
+				overruns++;
+			}
+			return nanos;
+		}
+	}
+
+	// The results of a number of games
+	private static class Results {
+		int games;
+		int unfinished;
+		int unwon;
+		long turns;
+		long nanos;
+		int[][] halfPoints; // Of the row strategy against the column strategy, a win counting as 2
+		int[][] played;
+		long[][] times; // Decision time histograms of every strategy
+		int[] timeouts; // Decisions over the time limit of every strategy
+
+		Results(int strategies) {
+			timeouts = new int[strategies];
+			halfPoints = new int[strategies][strategies];
+			played = new int[strategies][strategies];
+			times = new long[strategies][TIME_BUCKETS];
+		}
+
+		void add(Results other) {
+			games += other.games;
+			unfinished += other.unfinished;
+			unwon += other.unwon;
+			turns += other.turns;
+			for (int a = 0 ; a < played.length ; a++) {
+				timeouts[a] += other.timeouts[a];
+				for (int b = 0 ; b < played.length ; b++) {
+					halfPoints[a][b] += other.halfPoints[a][b];
+					played[a][b] += other.played[a][b];
+				}
+				for (int i = 0 ; i < TIME_BUCKETS ; i++) {
+					times[a][i] += other.times[a][i];
+				}
+			}
+		}
+
+		// Returns the decision time in milliseconds that the given fraction of the decisions of a strategy don't exceed
+		double percentile(int strategy, double fraction) {
+			long total = decisions(strategy);
+			long count = 0;
+			for (int i = 0 ; i < TIME_BUCKETS ; i++) {
+				count += times[strategy][i];
+				if (count > 0 && count >= fraction * total) {
+					return Math.pow(2, (i + 1.0) / BUCKETS_PER_OCTAVE) / 1e6;
+				}
+			}
+			return 0;
+		}
+
+		long decisions(int strategy) {
+			long total = 0;
+			for (int i = 0 ; i < TIME_BUCKETS ; i++) {
+				total += times[strategy][i];
+			}
+			return total;
+		}
+	}
+
+	// Plays the games from..to-1, splitting the work in halves until the batches are small enough
+	private static class Games extends RecursiveTask<Results> {
+		private static final long serialVersionUID = 1L;
+		private final Board board;
+		private final Entry[] entries;
+		private final int[][] pairs;
+		private final int gamesPerPair;
+		private final int players;
+		private final long[] seeds; // One for every pair of games
+		private final int from, to;
+		private final GameRandom random;
+
+		Games(Board board, Entry[] entries, int[][] pairs, int gamesPerPair, int players, long[] seeds, int from, int to,
+				GameRandom random) {
+			this.board = board;
+			this.entries = entries;
+			this.pairs = pairs;
+			this.gamesPerPair = gamesPerPair;
+			this.players = players;
+			this.seeds = seeds;
+			this.from = from;
+			this.to = to;
+			this.random = random;
+		}
+
+		protected Results compute() {
+			if (to - from > BATCH) {
+				int middle = (from + to) >>> 1;
+				Games first = new Games(board, entries, pairs, gamesPerPair, players, seeds, from, middle, random.split());
+				Games second = new Games(board, entries, pairs, gamesPerPair, players, seeds, middle, to, random);
+				first.fork();
+				Results result = second.compute();
+				result.add(first.join());
+				return result;
+			}
+			RulesEngine engine = board.getEngine();
+			Results result = new Results(entries.length);
+			Timed[] strategies = new Timed[entries.length];
+			for (int i = 0 ; i < entries.length ; i++) {
+				strategies[i] = new Timed(entries[i].create(engine, board.getDistances(), random.split()), result.times[i],
+						entries[i].time);
+			}
+			AIStrategy[] seated = new AIStrategy[players];
+			int[] entryOf = new int[players];
+			for (int game = from ; game < to ; game++) {
+				int[] pair = pairs[game / gamesPerPair];
+				int deal = (game / gamesPerPair) * ((gamesPerPair + 1) / 2) + game % gamesPerPair / 2;
+				int swap = game % 2;
+				for (int i = 0 ; i < players ; i++) {
+					entryOf[i] = pair[(i + deal + swap) % 2];
+					seated[i] = strategies[entryOf[i]];
+				}
+				GameRandom gameRandom = new GameRandom(seeds[deal]);
+				GameState state = Simulator.newGame(engine, players, gameRandom);
+				result.turns += Simulator.playGame(engine, state, seated, gameRandom);
+				result.games++;
+				int a = pair[0];
+				int b = pair[1];
+				result.played[a][b]++;
+				result.played[b][a]++;
+				if (state.getWinner() < 0) {
+					if (state.isGameOver()) {
+						result.unwon++;
+					}
+					else {
+						result.unfinished++;
+					}
+					result.halfPoints[a][b]++;
+					result.halfPoints[b][a]++;
+				}
+				else {
+					int winner = entryOf[state.getWinner()];
+					result.halfPoints[winner][winner == a ? b : a] += 2;
+				}
+			}
+			for (int i = 0 ; i < entries.length ; i++) {
+				result.timeouts[i] = strategies[i].overruns;
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Plays every pair of strategies against each other on all the processor cores.
+	 * 
+	 * @param board			the board
+	 * @param entries		the strategies
+	 * @param gamesPerPair	the number of games every pair of strategies plays
+	 * @param players		the number of players in a game
+	 * @param threads		the number of threads
+	 * @param seed			the seed from which the seeds of the games are derived
+	 */
+	private static Results play(Board board, Entry[] entries, int gamesPerPair, int players, int threads, long seed) {
+		ArrayList<int[]> list = new ArrayList<int[]>();
+		for (int a = 0 ; a < entries.length ; a++) {
+			for (int b = a + 1 ; b < entries.length ; b++) {
+				list.add(new int[] {a, b});
+			}
+		}
+		int[][] pairs = list.toArray(new int[list.size()][]);
+		GameRandom random = new GameRandom(seed);
+		long[] seeds = new long[pairs.length * ((gamesPerPair + 1) / 2)];
+		for (int i = 0 ; i < seeds.length ; i++) {
+			seeds[i] = random.nextLong();
+		}
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		long start = System.nanoTime();
+		Results result = pool.invoke(new Games(board, entries, pairs, gamesPerPair, players, seeds, 0,
+				pairs.length * gamesPerPair, random));
+		result.nanos = System.nanoTime() - start;
+		pool.shutdown();
+		return result;
+	}
+
+	/**
+	 * Fits the ratings of the strategies to their scores against each other, and works out
+	 * their standard errors from the curvature of the likelihood.
+	 * 
+	 * @param r	the results
+	 * @return	the ratings in the first row and their standard errors in the second, in Elo points
+	 */
+	private static double[][] rate(Results r) {
+		int n = r.played.length;
+		double[][] won = new double[n][n];
+		double[][] games = new double[n][n];
+		for (int a = 0 ; a < n ; a++) {
+			for (int b = 0 ; b < n ; b++) {
+				if (a != b && r.played[a][b] > 0) {
+					won[a][b] = r.halfPoints[a][b] / 2.0 + 0.5;
+					games[a][b] = r.played[a][b] + 1;
+				}
+			}
+		}
+		// Iterate the minorization-maximization updates of the Bradley-Terry strengths
+		double[] strength = new double[n];
+		Arrays.fill(strength, 1);
+		for (int iteration = 0 ; iteration < 10000 ; iteration++) {
+			double change = 0;
+			for (int a = 0 ; a < n ; a++) {
+				double wins = 0;
+				double sum = 0;
+				for (int b = 0 ; b < n ; b++) {
+					wins += won[a][b];
+					sum += games[a][b] / (strength[a] + strength[b]);
+				}
+				if (sum > 0) {
+					double s = wins / sum;
+					change = Math.max(change, Math.abs(Math.log(s / strength[a])));
+					strength[a] = s;
+				}
+			}
+			for (int a = n - 1 ; a >= 0 ; a--) {
+				strength[a] /= strength[0];
+			}
+			if (change < 1e-12) {
+				break;
+			}
+		}
+		// The information matrix without the first strategy, whose rating is fixed
+		int m = n - 1;
+		double[][] info = new double[m][2 * m];
+		for (int a = 1 ; a < n ; a++) {
+			for (int b = 0 ; b < n ; b++) {
+				double p = strength[a] / (strength[a] + strength[b]);
+				double w = games[a][b] * p * (1 - p);
+				info[a - 1][a - 1] += w;
+				if (b > 0) {
+					info[a - 1][b - 1] -= w;
+				}
+			}
+			info[a - 1][m + a - 1] = 1;
+		}
+		// Gauss-Jordan elimination turns the right half into the inverse, the covariance matrix
+		for (int c = 0 ; c < m ; c++) {
+			double pivot = info[c][c];
+			for (int j = 0 ; j < 2 * m ; j++) {
+				info[c][j] /= pivot;
+			}
+			for (int i = 0 ; i < m ; i++) {
+				if (i != c) {
+					double f = info[i][c];
+					for (int j = 0 ; j < 2 * m ; j++) {
+						info[i][j] -= f * info[c][j];
+					}
+				}
+			}
+		}
+		double[][] rating = new double[2][n];
+		for (int a = 0 ; a < n ; a++) {
+			rating[0][a] = ELO_PER_NEPER * Math.log(strength[a]);
+			rating[1][a] = a == 0 ? 0 : ELO_PER_NEPER * Math.sqrt(info[a - 1][m + a - 1]);
+		}
+		return rating;
+	}
+
+	private static void report(Results r, Entry[] entries, int players, int threads, long seed) {
+		double seconds = r.nanos / 1e9;
+		System.out.println(r.games + " games of " + players + " players in " + String.format("%.2f", seconds) + " s on "
+				+ threads + " threads: " + String.format("%.1f", r.games / seconds) + " games/s, "
+				+ String.format("%.0f", r.turns / seconds) + " turns/s");
+		System.out.println("Seed: " + seed);
+		System.out.println("Unfinished: " + r.unfinished + ", over without a winner: " + r.unwon + " (both count as draws)");
+		int width = 10;
+		for (Entry e : entries) {
+			width = Math.max(width, e.name.length());
+		}
+		String name = "%-" + width + "s";
+
+		System.out.println();
+		double[][] rating = rate(r);
+		System.out.println(String.format(name + " %7s %11s %8s", "Strategy", "Elo", "95 % CI", "Games"));
+		for (int a = 0 ; a < entries.length ; a++) {
+			int games = 0;
+			for (int b = 0 ; b < entries.length ; b++) {
+				games += r.played[a][b];
+			}
+			System.out.println(String.format(name + " %+7.0f %11s %8d", entries[a].name, rating[0][a],
+					a == 0 ? "reference" : String.format("+- %.0f", 1.96 * rating[1][a]), games));
+		}
+
+		System.out.println();
+		System.out.println("Score of the row against the column:");
+		StringBuilder header = new StringBuilder(String.format(name, ""));
+		for (Entry e : entries) {
+			header.append(String.format(" " + name, e.name));
+		}
+		System.out.println(header);
+		for (int a = 0 ; a < entries.length ; a++) {
+			StringBuilder row = new StringBuilder(String.format(name, entries[a].name));
+			for (int b = 0 ; b < entries.length ; b++) {
+				row.append(String.format(" " + name, r.played[a][b] == 0 ? "-"
+						: String.format("%.1f %%", 50.0 * r.halfPoints[a][b] / r.played[a][b])));
+			}
+			System.out.println(row);
+		}
+
+		System.out.println();
+		System.out.println(String.format(name + " %9s %9s %9s %9s %10s %9s", "Decision", "median ms", "90 % ms", "99 % ms",
+				"max ms", "decisions", "timeouts"));
+		for (int a = 0 ; a < entries.length ; a++) {
+			System.out.println(String.format(name + " %9.3f %9.3f %9.3f %9.3f %10d %9d", entries[a].name, r.percentile(a, 0.5),
+					r.percentile(a, 0.9), r.percentile(a, 0.99), r.percentile(a, 1), r.decisions(a), r.timeouts[a]));
+		}
+	}
+
+	public static void main(String[] args) {
+		Entry[] entries;
+		int games, players, threads;
+		long seed;
+		try {
+			games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+			players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+			threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+			seed = args.length > 3 ? Long.parseLong(args[3]) : new GameRandom().nextLong();
+			entries = args.length > 4 ? new Entry[args.length - 4]
+					: new Entry[] {new Entry("heuristic"), new Entry("expectimax:2:0")};
+			for (int i = 4 ; i < args.length ; i++) {
+				entries[i - 4] = new Entry(args[i]);
+			}
+		}
+		catch (IllegalArgumentException e) {
+			games = 0;
+			players = threads = 0;
+			seed = 0;
+			entries = new Entry[0];
+		}
+		if (games < 1 || players < 2 || players > 5 || threads < 1 || entries.length < 2) {
+			System.err.println("Usage: java star_of_Africa.Tournament [games per pair] [players (2-5)] [threads] [seed] [strategy...]");
+			System.err.println("Strategies: heuristic, expectimax[:depth[:ms]], mcts[:ms], at least two of them");
+			System.exit(1);
+		}
+		report(play(new Board(), entries, games, players, threads, seed), entries, players, threads, seed);
+	}
+}
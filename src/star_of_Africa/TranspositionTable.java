@@ -0,0 +1,157 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size table of the values the search has already worked out, keyed by the hash
+ * of the position (see <code>GameState.hash</code>). The same position is reached many
+ * times through different orders of the dicerolls, and looking its value up is a lot
+ * cheaper than searching it again.
+ * </p>
+ * The table is shared by all the threads of a search without any locking. It's a plain
+ * <code>long</code> array with two longs per entry: the key XOR the data, and the data.
+ * A thread that reads an entry while another one is writing it may get the key of one
+ * write and the data of another, but then the XOR no longer gives the key back, and the
+ * entry counts as a miss. Every key maps to a bucket of two entries. The first one keeps
+ * the deepest search of the bucket, and the second one is replaced by everything else.
+ * Entries of earlier searches are replaced first, since the positions they were made for
+ * are already behind.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class TranspositionTable {
+
+	// The fields of the data
+	private static final long VALUE = 0xFFFFFFFFL; // The bits of a float
+	private static final int DEPTH_SHIFT = 32;
+	private static final long DEPTH = 0xFFL << DEPTH_SHIFT;
+	private static final int AGE_SHIFT = 40;
+	private static final long AGE = 0xFFL << AGE_SHIFT;
+	private static final long USED = 1L << 48; // Tells an entry from an empty one
+
+	private final long[] table;
+	private final int mask; // Buckets - 1
+	private volatile int age;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Constructs an empty table.
+	 *
+	 * @param bits	the table has 2<sup>bits</sup> buckets of 32 bytes each
+	 */
+	public TranspositionTable(int bits) {
+		if (bits < 1 || bits > 26) {
+			throw new IllegalArgumentException("Can't make a table of 2^" + bits + " buckets.");
+		}
+		table = new long[4 << bits];
+		mask = (1 << bits) - 1;
+	}
+
+	/**
+	 * Looks up the value of a position.
+	 *
+	 * @param key	the hash of the position
+	 * @param depth	the least depth of search that will do
+	 * @return		the value, or <code>NaN</code> if the table doesn't have one searched at least that deep
+	 */
+	public double get(long key, int depth) {
+		int i = index(key);
+		for (int e = i ; e < i + 4 ; e += 2) {
+			long data = table[e + 1];
+			if ((table[e] ^ data) == key && (data & USED) != 0 && depth(data) >= depth) {
+				hits.increment();
+				return Float.intBitsToFloat((int)(data & VALUE));
+			}
+		}
+		misses.increment();
+		return Double.NaN;
+	}
+
+	/**
+	 * Stores the value of a position.
+	 *
+	 * @param key	the hash of the position
+	 * @param depth	the depth of the search that gave the value
+	 * @param value	the value
+	 */
+	public void put(long key, int depth, double value) {
+		int i = index(key);
+		long data = Float.floatToRawIntBits((float)value) & VALUE | (long)Math.min(depth, 255) << DEPTH_SHIFT
+				| (long)age << AGE_SHIFT | USED;
+		long first = table[i + 1];
+		// The deepest search of the bucket stays in the first entry, unless it's left over from an earlier search
+		int e = (first & USED) == 0 || (table[i] ^ first) == key || depth >= depth(first) || age(first) != age ? i : i + 2;
+		if (e == i && (first & USED) != 0 && (table[i] ^ first) != key) {
+			// The first entry is demoted to the second one
+			table[i + 2] = table[i];
+			table[i + 3] = first;
+		}
+		table[e] = key ^ data;
+		table[e + 1] = data;
+	}
+
+	private int index(long key) {
+		return ((int)(key ^ key >>> 32) & mask) << 2;
+	}
+
+	private static int depth(long data) {
+		return (int)((data & DEPTH) >>> DEPTH_SHIFT);
+	}
+
+	private static int age(long data) {
+		return (int)((data & AGE) >>> AGE_SHIFT);
+	}
+
+	/**
+	 * Starts a new search. The entries of earlier searches can still be found, but they are
+	 * the first to be replaced.
+	 */
+	public void newSearch() {
+		age = (age + 1) & 0xFF;
+	}
+
+	/**
+	 * Empties the table and resets the counters.
+	 */
+	public void clear() {
+		Arrays.fill(table, 0);
+		hits.reset();
+		misses.reset();
+	}
+
+	/**
+	 * @return	the number of successful lookups
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return	the number of lookups that found nothing
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+}
@@ -0,0 +1,653 @@
+/*   Copyright 2026 The Star of Africa contributors
+ *
+ *   This file is part of the Star of Africa.
+ *
+ *   The Star of Africa is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   The Star of Africa is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with the Star of Africa.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package star_of_Africa;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * This class holds the expected number of turns it takes to get from every place on the
+ * board to every port (city or starting point), and home to either starting point, when
+ * the player moves as well as the dice allow. The expectations are exact under the
+ * movement rules of the RulesEngine: the player has to use up his roll by land unless he
+ * stops at a city, a ship advances a fixed number of steps per turn after the first one,
+ * and a player captured on a hostile tile only gets on with a roll of 1 or 2. They are
+ * solved by value iteration over the states a player can be in at the start of his turn
+ * (on a place, on a ship bound for a port, and captured in either case), for three
+ * budgets: <code>FREE</code> (walking and free voyages), <code>SHIPS</code> (paid voyages
+ * too) and <code>PLANES</code> (flights too).
+ * </p>
+ * The budgets assume that the player can always afford what they allow. For the race home of
+ * the player with the star, where every fare counts, there is a table of its own by the money
+ * the player has left, in steps of 100 pounds: every fare paid takes him down to a table that
+ * has already been solved. The best move home is then the one with the fewest turns after it,
+ * with the money that's left after it.
+ * </p>
+ * Solving the tables takes a while, so they're stored in a binary file. The file of the
+ * default board is shipped as <code>rsrc/board/africa.turns</code>, and can be rebuilt with
+ * <code>java star_of_Africa.TurnTable [board] [file]</code>. Other boards get theirs
+ * solved on first use and cached in the temporary directory. A file is only used if it
+ * was solved for the same board and rules, which is checked by a fingerprint of both.
+ * The turns are stored in fixed point, in 1/256 turns, which keeps the file of the
+ * default board at about 100 kB.
+ *
+ * @author The Star of Africa contributors
+ * @version 1.0.0
+ */
+public class TurnTable {
+
+	public static final int FREE = 0;
+	public static final int SHIPS = 1;
+	public static final int PLANES = 2;
+	/** The target that stands for either starting point */
+	public static final int HOME = -1;
+	public static final double UNREACHABLE = Double.POSITIVE_INFINITY;
+	private static final int MODES = 3;
+	private static final int MAGIC = 0x534F4154; // "SOAT"
+	private static final int VERSION = 2;
+	private static final int SCALE = 256;
+	private static final int NEVER = 0xFFFF; // Stored for the places the target can't be reached from
+	private static final double INFINITE = 1e9; // Stands for "never" while solving
+	private static final double PRECISION = 1e-9;
+	private static final int DICE = MoveTable.MAX_DICE;
+	private static final int POUNDS_PER_LEVEL = 100; // Every fare is a multiple of this
+	private static final int LEVELS = 21; // The money levels of the race home. More than 2000 pounds buys nothing more
+
+	private final BoardGraph board;
+	private final SeaLanes lanes;
+	private final int size;
+	private final int[] laneRow; // Indexed by place id. The row of the first lane from the place
+	private final int[] capturedRow; // Indexed by row. The row of the same state with the player captured, or -1
+	private final int rows;
+	private final int[] targets; // The ids of the ports, then HOME
+	private final int[] targetIndex; // Indexed by place id, -1 for places that aren't ports
+	private final char[][] turns = new char[MODES][]; // Indexed by target index * rows + row
+	private char[] home; // The race home, indexed by money level * rows + row
+	private final long fingerprint;
+
+	/**
+	 * Solves the tables of a board.
+	 *
+	 * @param board	the board
+	 * @param moves	the moves by land of the board
+	 * @param lanes	the sea lanes of the board
+	 */
+	public TurnTable(BoardGraph board, MoveTable moves, SeaLanes lanes) {
+		this(board, lanes);
+		for (int mode = 0 ; mode < MODES ; mode++) {
+			solve(moves, mode);
+		}
+		solveHome(moves);
+	}
+
+	// Sets up the rows and targets, but leaves the tables empty
+	private TurnTable(BoardGraph board, SeaLanes lanes) {
+		this.board = board;
+		this.lanes = lanes;
+		size = board.size();
+		laneRow = new int[size + 1];
+		int row = size;
+		for (int p = 0 ; p < size ; p++) {
+			laneRow[p] = row;
+			row += lanes.getLaneCount(p);
+		}
+		laneRow[size] = row;
+
+		// A player can only be captured where he lands, so only hostile tiles need a captured row
+		capturedRow = new int[row];
+		Arrays.fill(capturedRow, -1);
+		for (int p = 0 ; p < size ; p++) {
+			if (board.getPlace(p).isHostile()) {
+				capturedRow[p] = row++;
+				for (int r = laneRow[p] ; r < laneRow[p + 1] ; r++) {
+					capturedRow[r] = row++;
+				}
+			}
+		}
+		rows = row;
+
+		targetIndex = new int[size];
+		int count = 0;
+		for (int p = 0 ; p < size ; p++) {
+			targetIndex[p] = isPort(p) ? count++ : -1;
+		}
+		targets = new int[count + 1];
+		for (int p = 0 ; p < size ; p++) {
+			if (targetIndex[p] >= 0) {
+				targets[targetIndex[p]] = p;
+			}
+		}
+		targets[count] = HOME;
+		fingerprint = fingerprint(board);
+	}
+
+	private boolean isPort(int id) {
+		Place p = board.getPlace(id);
+		return p.isCity() || p.isStart();
+	}
+
+	// The board and the rules the tables depend on
+	private static long fingerprint(BoardGraph board) {
+		CRC32 crc = new CRC32();
+		ByteBuffer data = ByteBuffer.allocate(4 * (board.size() + 8));
+		data.putInt(VERSION);
+		data.putInt(DICE);
+		data.putInt(RulesEngine.UNPAID_VOYAGE_STEPS);
+		data.putInt(RulesEngine.ESCAPE_ROLL);
+		data.putInt(RulesEngine.SHIP_FARE);
+		data.putInt(RulesEngine.FLIGHT_FARE);
+		data.putInt(POUNDS_PER_LEVEL);
+		data.putInt(LEVELS);
+		for (int i = 0 ; i < board.size() ; i++) {
+			Place p = board.getPlace(i);
+			data.putInt((p.isCity() ? 1 : 0) | (p.isStart() ? 2 : 0) | (p.isHostile() ? 4 : 0));
+		}
+		crc.update(data.array());
+		for (int mode = 0 ; mode < MODES ; mode++) {
+			update(crc, board.getOffsets(mode));
+			update(crc, board.getTargets(mode));
+		}
+		return crc.getValue();
+	}
+
+	private static void update(CRC32 crc, int[] values) {
+		ByteBuffer data = ByteBuffer.allocate(4 * values.length);
+		data.asIntBuffer().put(values);
+		crc.update(data.array());
+	}
+
+	// The row of a player who has just arrived at a place by land or air
+	private int arrive(int place) {
+		return board.getPlace(place).isHostile() ? capturedRow[place] : place;
+	}
+
+	// The row of a player who has sailed the given number of steps along a lane
+	private int sail(int place, int lane, int steps) {
+		int tile = lanes.getTile(place, lane, steps);
+		int port = lanes.getDestination(place, lane);
+		if (tile == port) {
+			return arrive(tile);
+		}
+		int row = laneRow[tile] + lanes.find(tile, port);
+		return board.getPlace(tile).isHostile() ? capturedRow[row] : row;
+	}
+
+	/**
+	 * Lists the rows each row leads to with each diceroll, in the offset/target form of the
+	 * BoardGraph: the options of row <code>r</code> and roll <code>d</code> are
+	 * <code>next[offsets[i]]..next[offsets[i+1]-1]</code>, where <code>i = r * DICE + d - 1</code>.
+	 * The fare of each option, in money levels, is in <code>fare</code> at the same index as in
+	 * <code>next</code>. A row with no options stays where it is.
+	 */
+	private int[][] transitions(MoveTable moves, int mode) {
+		int[] offsets = new int[rows * DICE + 1];
+		int[] next = new int[16 * rows];
+		int[] fare = new int[next.length];
+		int count = 0;
+		int[] base = new int[rows]; // The uncaptured state of each row
+		for (int r = 0 ; r < capturedRow.length ; r++) {
+			base[r] = r;
+			if (capturedRow[r] >= 0) {
+				base[capturedRow[r]] = r;
+			}
+		}
+		for (int r = 0 ; r < rows ; r++) {
+			boolean captured = base[r] != r;
+			int state = base[r];
+			for (int dice = 1 ; dice <= DICE ; dice++) {
+				offsets[r * DICE + dice - 1] = count;
+				if (next.length < count + 64) {
+					next = Arrays.copyOf(next, 2 * next.length);
+					fare = Arrays.copyOf(fare, next.length);
+				}
+				if (captured && dice > RulesEngine.ESCAPE_ROLL) {
+					continue;
+				}
+				if (state >= size) { // At sea the ship moves on whatever the roll
+					int place = placeOf(state);
+					int lane = state - laneRow[place];
+					next[count++] = sail(place, lane, Math.min(RulesEngine.UNPAID_VOYAGE_STEPS, lanes.getSteps(place, lane)));
+					continue;
+				}
+				for (int i = 0 ; i < moves.getOptionCount(state, dice) ; i++) {
+					next[count++] = arrive(moves.getOption(state, dice, i));
+				}
+				if (board.getDegree(state, BoardGraph.SEA) > 0) {
+					for (int lane = 0 ; lane < lanes.getLaneCount(state) ; lane++) {
+						int steps = lanes.getSteps(state, lane);
+						next[count++] = sail(state, lane, Math.min(RulesEngine.UNPAID_VOYAGE_STEPS, steps));
+						if (mode >= SHIPS) {
+							fare[count] = RulesEngine.SHIP_FARE / POUNDS_PER_LEVEL;
+							next[count++] = sail(state, lane, Math.min(dice, steps));
+						}
+					}
+				}
+				if (mode >= PLANES) {
+					for (int i = 0 ; i < board.getDegree(state, BoardGraph.AIR) ; i++) {
+						fare[count] = RulesEngine.FLIGHT_FARE / POUNDS_PER_LEVEL;
+						next[count++] = arrive(board.getNeighbor(state, BoardGraph.AIR, i));
+					}
+				}
+			}
+		}
+		offsets[rows * DICE] = count;
+		return new int[][] {offsets, Arrays.copyOf(next, count), Arrays.copyOf(fare, count)};
+	}
+
+	// The place of a player on the given uncaptured row
+	private int placeOf(int row) {
+		if (row < size) {
+			return row;
+		}
+		int low = 0;
+		int high = size - 1;
+		while (low < high) { // The last place whose lanes start at or before the row
+			int middle = (low + high + 1) >>> 1;
+			if (laneRow[middle] <= row) {
+				low = middle;
+			}
+			else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Solves the turns to every target with one budget. A turn is one plus the average over the
+	 * dicerolls of the best option of each roll. The rolls that leave the player where he is
+	 * (a captured player rolling too high) are solved for directly, and the rest converge by
+	 * sweeping the rows until nothing changes.
+	 */
+	private void solve(MoveTable moves, int mode) {
+		int[][] transitions = transitions(moves, mode);
+		int[] offsets = transitions[0];
+		int[] next = transitions[1];
+		turns[mode] = new char[targets.length * rows];
+		double[] value = new double[rows];
+		for (int t = 0 ; t < targets.length ; t++) {
+			Arrays.fill(value, INFINITE);
+			for (int p = 0 ; p < size ; p++) {
+				if (targets[t] == HOME ? board.getPlace(p).isStart() : p == targets[t]) {
+					value[p] = 0;
+				}
+			}
+			double change;
+			do {
+				change = 0;
+				for (int r = 0 ; r < rows ; r++) {
+					if (value[r] == 0) {
+						continue;
+					}
+					double sum = 0;
+					int staying = 0;
+					for (int i = r * DICE ; i < (r + 1) * DICE ; i++) {
+						if (offsets[i] == offsets[i + 1]) {
+							staying++;
+							continue;
+						}
+						double best = INFINITE;
+						for (int e = offsets[i] ; e < offsets[i + 1] ; e++) {
+							best = Math.min(best, value[next[e]]);
+						}
+						sum += best;
+					}
+					double v = staying == DICE ? INFINITE : Math.min(INFINITE, (DICE + sum) / (DICE - staying));
+					change = Math.max(change, Math.abs(v - value[r]) / v);
+					value[r] = v;
+				}
+			} while (change > PRECISION);
+			for (int r = 0 ; r < rows ; r++) {
+				turns[mode][t * rows + r] = value[r] * SCALE >= NEVER ? (char)NEVER : (char)Math.round(value[r] * SCALE);
+			}
+		}
+	}
+
+	/**
+	 * Solves the race home by the money the player has. The options a player can't afford are
+	 * left out, and the ones he pays for lead to the table of the money he has left, which has
+	 * already been solved. Otherwise it goes like <code>solve</code>.
+	 */
+	private void solveHome(MoveTable moves) {
+		int[][] transitions = transitions(moves, PLANES);
+		int[] offsets = transitions[0];
+		int[] next = transitions[1];
+		int[] fare = transitions[2];
+		home = new char[LEVELS * rows];
+		double[][] value = new double[LEVELS][rows];
+		for (int level = 0 ; level < LEVELS ; level++) {
+			double[] v = value[level];
+			Arrays.fill(v, INFINITE);
+			for (int p = 0 ; p < size ; p++) {
+				if (board.getPlace(p).isStart()) {
+					v[p] = 0;
+				}
+			}
+			double change;
+			do {
+				change = 0;
+				for (int r = 0 ; r < rows ; r++) {
+					if (v[r] == 0) {
+						continue;
+					}
+					double sum = 0;
+					int staying = 0;
+					for (int i = r * DICE ; i < (r + 1) * DICE ; i++) {
+						double best = INFINITE;
+						boolean moving = false;
+						for (int e = offsets[i] ; e < offsets[i + 1] ; e++) {
+							if (fare[e] <= level) {
+								moving = true;
+								best = Math.min(best, value[level - fare[e]][next[e]]);
+							}
+						}
+						if (!moving) {
+							staying++;
+							continue;
+						}
+						sum += best;
+					}
+					double t = staying == DICE ? INFINITE : Math.min(INFINITE, (DICE + sum) / (DICE - staying));
+					change = Math.max(change, Math.abs(t - v[r]) / t);
+					v[r] = t;
+				}
+			} while (change > PRECISION);
+			for (int r = 0 ; r < rows ; r++) {
+				home[level * rows + r] = v[r] * SCALE >= NEVER ? (char)NEVER : (char)Math.round(v[r] * SCALE);
+			}
+		}
+	}
+
+	/**
+	 * Loads the tables of a board from a file, or solves them if the file doesn't exist or was
+	 * made for another board.
+	 *
+	 * @param board	the board
+	 * @param moves	the moves by land of the board
+	 * @param lanes	the sea lanes of the board
+	 * @param name	the file or resource name of the tables (looked up like a board), or <code>null</code>
+	 * @return		the tables
+	 */
+	public static TurnTable load(BoardGraph board, MoveTable moves, SeaLanes lanes, String name) {
+		TurnTable table = new TurnTable(board, lanes);
+		try {
+			URL url = name == null ? null : BoardFile.locate(name);
+			if (url != null && table.decode(ByteBuffer.wrap(BoardFile.read(url)))) {
+				return table;
+			}
+		}
+		catch (IOException e) {
+			// Solved below
+		}
+		catch (RuntimeException e) {
+			// Damaged, so it's solved below
+		}
+		File cache = new File(new File(System.getProperty("java.io.tmpdir"), "star_of_Africa"),
+				"turns-" + Long.toHexString(table.fingerprint) + ".bin");
+		if (cache.isFile()) {
+			try {
+				if (table.decode(BoardFile.map(cache))) {
+					return table;
+				}
+			}
+			catch (IOException e) {
+				// Solved below
+			}
+			catch (RuntimeException e) {
+				// Damaged, so it's solved again below
+			}
+		}
+		table = new TurnTable(board, moves, lanes);
+		BoardFile.store(table.encode(), cache);
+		return table;
+	}
+
+	/**
+	 * @return	the tables as a binary image
+	 */
+	public ByteBuffer encode() {
+		ByteBuffer image = ByteBuffer.allocate(4 * 5 + 8 + 4 * targets.length + 2 * (MODES * targets.length + LEVELS) * rows);
+		image.putInt(MAGIC);
+		image.putInt(VERSION);
+		image.putLong(fingerprint);
+		image.putInt(size);
+		image.putInt(rows);
+		image.putInt(targets.length);
+		for (int target : targets) {
+			image.putInt(target);
+		}
+		for (int mode = 0 ; mode < MODES ; mode++) {
+			image.asCharBuffer().put(turns[mode]);
+			image.position(image.position() + 2 * turns[mode].length);
+		}
+		image.asCharBuffer().put(home);
+		image.position(image.position() + 2 * home.length);
+		image.flip();
+		return image;
+	}
+
+	// Reads the tables from an image. Returns false if the image was made for another board or version.
+	private boolean decode(ByteBuffer image) {
+		ByteBuffer in = image.duplicate();
+		if (in.getInt() != MAGIC || in.getInt() != VERSION || in.getLong() != fingerprint || in.getInt() != size
+				|| in.getInt() != rows || in.getInt() != targets.length) {
+			return false;
+		}
+		for (int target : targets) {
+			if (in.getInt() != target) {
+				return false;
+			}
+		}
+		for (int mode = 0 ; mode < MODES ; mode++) {
+			turns[mode] = new char[targets.length * rows];
+			in.asCharBuffer().get(turns[mode]);
+			in.position(in.position() + 2 * turns[mode].length);
+		}
+		home = new char[LEVELS * rows];
+		in.asCharBuffer().get(home);
+		return true;
+	}
+
+	/**
+	 * @param money	the money a player may spend on traveling
+	 * @return		the budget that money allows
+	 */
+	public static int getMode(int money) {
+		if (money >= RulesEngine.FLIGHT_FARE) {
+			return PLANES;
+		}
+		return money >= RulesEngine.SHIP_FARE ? SHIPS : FREE;
+	}
+
+	/**
+	 * @param place	the id of a place
+	 * @return		<code>true</code> if the place is a port, and can be used as a target
+	 */
+	public boolean isTarget(int place) {
+		return targetIndex[place] >= 0;
+	}
+
+	/**
+	 * Returns the expected number of turns it takes a player to reach a target, counted from the
+	 * start of his turn.
+	 *
+	 * @param place			the id of the place where the player is
+	 * @param destination	the port the player's ship is bound for, or -1 if he's not at sea
+	 * @param captured		is the player captured?
+	 * @param target		the id of a port, or <code>HOME</code>
+	 * @param mode			<code>FREE</code>, <code>SHIPS</code> or <code>PLANES</code>
+	 * @return				the turns, or <code>UNREACHABLE</code>
+	 */
+	public double getTurns(int place, int destination, boolean captured, int target, int mode) {
+		int t = target == HOME ? targets.length - 1 : targetIndex[target];
+		if (t < 0) {
+			throw new IllegalArgumentException("Place " + target + " is not a port.");
+		}
+		return toTurns(turns[mode][t * rows + row(place, destination, captured)]);
+	}
+
+	// The row of a player at a place
+	private int row(int place, int destination, boolean captured) {
+		int row = place;
+		if (destination >= 0) {
+			int lane = lanes.find(place, destination);
+			if (lane < 0) {
+				throw new IllegalArgumentException("There is no sea lane from " + place + " to " + destination + ".");
+			}
+			row = laneRow[place] + lane;
+		}
+		if (captured && capturedRow[row] >= 0) {
+			row = capturedRow[row];
+		}
+		return row;
+	}
+
+	private static double toTurns(int value) {
+		return value == NEVER ? UNREACHABLE : (double)value / SCALE;
+	}
+
+	/**
+	 * @param place		the id of the place where the player is
+	 * @param target	the id of a port, or <code>HOME</code>
+	 * @param mode		<code>FREE</code>, <code>SHIPS</code> or <code>PLANES</code>
+	 * @return			the expected number of turns it takes a free player on land to reach the target,
+	 * 					or <code>UNREACHABLE</code>
+	 */
+	public double getTurns(int place, int target, int mode) {
+		return getTurns(place, -1, false, target, mode);
+	}
+
+	/**
+	 * Returns the expected number of turns it takes a player to reach a target, counted from the
+	 * start of his turn. Turns to be spent as a slave are included.
+	 *
+	 * @param s			the state of the game
+	 * @param player	the player
+	 * @param target	the id of a port, or <code>HOME</code>
+	 * @param mode		<code>FREE</code>, <code>SHIPS</code> or <code>PLANES</code>
+	 * @return			the turns, or <code>UNREACHABLE</code>
+	 */
+	public double getTurns(GameState s, int player, int target, int mode) {
+		return s.getTurnsLeftAsSlave(player)
+				+ getTurns(s.getPlace(player), s.getLockedDestination(player), s.isCaptured(player), target, mode);
+	}
+
+	/**
+	 * Returns the expected number of turns it takes a player to reach a target after making a move,
+	 * counted from the start of his next turn.
+	 *
+	 * @param place		the id of the place where the player makes the move
+	 * @param move		the move
+	 * @param target	the id of a port, or <code>HOME</code>
+	 * @param mode		<code>FREE</code>, <code>SHIPS</code> or <code>PLANES</code>
+	 * @return			the turns, or <code>UNREACHABLE</code>
+	 */
+	public double getTurnsAfter(int place, AIMove move, int target, int mode) {
+		switch (move.getType()) {
+		case AIMove.STAY:
+		case AIMove.ROLL_FOR_TOKEN:
+			return getTurns(place, -1, false, target, mode);
+		case AIMove.SAIL:
+		case AIMove.SAIL_UNPAID:
+			int at = move.getDestination();
+			return getTurns(at, at == move.getPort() ? -1 : move.getPort(), board.getPlace(at).isHostile(), target, mode);
+		default:
+			return getTurns(move.getDestination(), -1, board.getPlace(move.getDestination()).isHostile(), target, mode);
+		}
+	}
+
+	/**
+	 * Returns the expected number of turns it takes a player to get home, counted from the start
+	 * of his turn, when he spends his money as well as possible.
+	 *
+	 * @param place			the id of the place where the player is
+	 * @param destination	the port the player's ship is bound for, or -1 if he's not at sea
+	 * @param captured		is the player captured?
+	 * @param money			the money the player has
+	 * @return				the turns, or <code>UNREACHABLE</code>
+	 */
+	public double getHomeTurns(int place, int destination, boolean captured, int money) {
+		return toTurns(home[Math.min(LEVELS - 1, money / POUNDS_PER_LEVEL) * rows + row(place, destination, captured)]);
+	}
+
+	/**
+	 * Returns the expected number of turns it takes a player to get home, counted from the start
+	 * of his turn, when he spends his money as well as possible. Turns to be spent as a slave are included.
+	 *
+	 * @param s			the state of the game
+	 * @param player	the player
+	 * @return			the turns, or <code>UNREACHABLE</code>
+	 */
+	public double getHomeTurns(GameState s, int player) {
+		return s.getTurnsLeftAsSlave(player) + getHomeTurns(s.getPlace(player), s.getLockedDestination(player),
+				s.isCaptured(player), s.getMoney(player));
+	}
+
+	/**
+	 * Returns the expected number of turns it takes a player to get home after making a move,
+	 * counted from the start of his next turn.
+	 *
+	 * @param place	the id of the place where the player makes the move
+	 * @param move	the move
+	 * @param money	the money the player has left after paying for the move
+	 * @return		the turns, or <code>UNREACHABLE</code>
+	 */
+	public double getHomeTurnsAfter(int place, AIMove move, int money) {
+		switch (move.getType()) {
+		case AIMove.STAY:
+		case AIMove.ROLL_FOR_TOKEN:
+			return getHomeTurns(place, -1, false, money);
+		case AIMove.SAIL:
+		case AIMove.SAIL_UNPAID:
+			int at = move.getDestination();
+			return getHomeTurns(at, at == move.getPort() ? -1 : move.getPort(), board.getPlace(at).isHostile(), money);
+		default:
+			return getHomeTurns(move.getDestination(), -1, board.getPlace(move.getDestination()).isHostile(), money);
+		}
+	}
+
+	/**
+	 * Solves the tables of a board and writes them to a file.
+	 * </p>
+	 * Usage: <code>java star_of_Africa.TurnTable [board] [file]</code>
+	 */
+	public static void main(String[] args) throws IOException {
+		String name = args.length > 0 ? args[0] : Board.DEFAULT_BOARD;
+		String file = args.length > 1 ? args[1] : Board.getTurnTableName(new File(name).getName());
+		BoardGraph board = BoardFile.load(name);
+		long start = System.nanoTime();
+		TurnTable table = new TurnTable(board, new MoveTable(board), new SeaLanes(board));
+		System.out.println("Solved " + table.targets.length + " targets from " + table.rows + " states in "
+				+ String.format("%.2f", (System.nanoTime() - start) / 1e9) + " s.");
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.getChannel().write(table.encode());
+		}
+		finally {
+			out.close();
+		}
+		System.out.println("Wrote " + file + ".");
+	}
+}